@@ -0,0 +1,96 @@
+package com.automate.benchmarks;
+
+import com.automate.customexceptions.FrameworkException;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Copy of the test resources in a temporary directory that becomes user.dir of the benchmark JVM, so a benchmark can change
+ * config.properties and generate test data without touching the project, and its reports and caches are thrown away.
+ * <p>
+ * FrameworkConstants resolves every path from user.dir once, so the copy has to be created before the first framework class
+ * is loaded. JMH runs every benchmark and parameter combination in a fresh fork, which holds as long as the benchmarks are not
+ * run with -f 0.
+ */
+final class BenchmarkProject {
+
+  private static final String RESOURCES = "src/test/resources";
+  private static final String[] TEST_CASES = {"validLogin", "invalidLogin", "googleSearch", "logOut"};
+
+  private final Path directory;
+
+  private BenchmarkProject(Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * @param properties config.properties entries to override
+   */
+  static BenchmarkProject create(Map<String, String> properties) {
+    try {
+      Path source = Paths.get(System.getProperty("user.dir"), RESOURCES);
+      Path directory = Files.createTempDirectory("benchmark-project");
+      Path resources = directory.resolve(RESOURCES);
+      try (Stream<Path> files = Files.walk(source)) {
+        for (Path file : (Iterable<Path>) files::iterator) {
+          Path target = resources.resolve(source.relativize(file).toString());
+          if (Files.isDirectory(file)) {
+            Files.createDirectories(target);
+          } else {
+            Files.copy(file, target);
+          }
+        }
+      }
+      StringBuilder overrides = new StringBuilder(System.lineSeparator());
+      properties.forEach((key, value) -> overrides.append(key).append('=').append(value).append(System.lineSeparator()));
+      Files.write(resources.resolve("config/config.properties"), overrides.toString().getBytes(), StandardOpenOption.APPEND);
+      System.setProperty("user.dir", directory.toString());
+      return new BenchmarkProject(directory);
+    } catch (IOException e) {
+      throw new FrameworkException("Unable to create the benchmark project", e);
+    }
+  }
+
+  /**
+   * Replaces data/testdata.xlsx with a TEST_DATA sheet of the given number of rows, spread over a few test cases.
+   */
+  void writeTestData(int rows) {
+    try (SXSSFWorkbook workbook = new SXSSFWorkbook();
+         OutputStream output = Files.newOutputStream(directory.resolve(RESOURCES).resolve("data/testdata.xlsx"))) {
+      Sheet sheet = workbook.createSheet("TEST_DATA");
+      writeRow(sheet.createRow(0), "TestCaseName", "username", "password", "searchTerm");
+      for (int i = 1; i <= rows; i++) {
+        writeRow(sheet.createRow(i), TEST_CASES[i % TEST_CASES.length], "user" + i, "secret" + i, "term" + i);
+      }
+      workbook.write(output);
+      workbook.dispose();
+    } catch (IOException e) {
+      throw new FrameworkException("Unable to write the benchmark test data", e);
+    }
+  }
+
+  void delete() {
+    try (Stream<Path> files = Files.walk(directory)) {
+      files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+    } catch (IOException e) {
+      throw new FrameworkException("Unable to delete the benchmark project " + directory, e);
+    }
+  }
+
+  private static void writeRow(Row row, String... values) {
+    for (int i = 0; i < values.length; i++) {
+      row.createCell(i).setCellValue(values[i]);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.automate.benchmarks;
+
+import com.automate.enums.ConfigJson;
+import com.automate.enums.ConfigProperties;
+import com.automate.utils.configloader.JsonUtils;
+import com.automate.utils.configloader.PropertyUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups in config.properties and config.json, done on nearly every framework call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigBenchmark {
+
+  @Benchmark
+  public String getPropertyValue() {
+    return PropertyUtils.getPropertyValue(ConfigProperties.APP_RESET_STRATEGY);
+  }
+
+  @Benchmark
+  public boolean getBooleanValue() {
+    return PropertyUtils.getBooleanValue(ConfigProperties.PASSED_STEP_SCREENSHOTS);
+  }
+
+  @Benchmark
+  public String getConfig() {
+    return JsonUtils.getConfig(ConfigJson.APP_PACKAGE);
+  }
+
+  @Benchmark
+  public Object getValue() {
+    return JsonUtils.getValue("$.app_package");
+  }
+}
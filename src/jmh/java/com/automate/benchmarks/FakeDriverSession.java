@@ -0,0 +1,36 @@
+package com.automate.benchmarks;
+
+import com.automate.driver.factory.DriverFactory;
+import com.automate.driver.server.FakeAppiumServer;
+import com.automate.enums.MobilePlatformName;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * A session of the benchmark thread on the in-process {@link FakeAppiumServer}, started through {@link DriverFactory} like
+ * in a test, so benchmarks that need a driver measure the framework and the http round trip without any device latency.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class FakeDriverSession {
+
+  /**
+   * config.properties entries a {@link BenchmarkProject} needs for a fake session: no recording, no pooling.
+   */
+  static final Map<String, String> PROPERTIES = Map.of(
+    "fake_appium_server", "yes",
+    "reuse_sessions", "no",
+    "record_screen", "no",
+    "record_command_latency", "no");
+
+  static void start() {
+    DriverFactory.initializeDriver(MobilePlatformName.ANDROID, "benchmark", "benchmark", 0, "no");
+  }
+
+  static void stop() {
+    DriverFactory.quitDriver();
+    DriverFactory.quitAllDrivers();
+    FakeAppiumServer.stop();
+  }
+}
@@ -0,0 +1,71 @@
+package com.automate.benchmarks;
+
+import com.automate.reports.ExtentReportLogger;
+import com.automate.reports.ExtentReportManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logging a step to the Extent report, with a screenshot taken from the fake appium server for passed steps or without.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReportLoggingBenchmark {
+
+  @Param({"no", "yes"})
+  private String passedStepScreenshots;
+
+  private BenchmarkProject project;
+
+  @Setup
+  public void setUp() {
+    Map<String, String> properties = new HashMap<>(FakeDriverSession.PROPERTIES);
+    properties.put("passed_step_screenshots", passedStepScreenshots);
+    project = BenchmarkProject.create(properties);
+    FakeDriverSession.start();
+    ExtentReportManager.initExtentReport();
+  }
+
+  /**
+   * Every iteration logs to a test of its own, so the number of entries of a single test does not grow without bound.
+   */
+  @Setup(Level.Iteration)
+  public void createTest() {
+    ExtentReportManager.createTest("benchmark");
+  }
+
+  @TearDown
+  public void tearDown() {
+    FakeDriverSession.stop();
+    project.delete();
+  }
+
+  @Benchmark
+  public void logPass() {
+    ExtentReportLogger.logPass("Passed step");
+  }
+
+  @Benchmark
+  public void logInfo() {
+    ExtentReportLogger.logInfo("Info step");
+  }
+}
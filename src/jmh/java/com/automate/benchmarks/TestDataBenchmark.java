@@ -0,0 +1,74 @@
+package com.automate.benchmarks;
+
+import com.automate.constants.FrameworkConstants;
+import com.automate.entity.TestData;
+import com.automate.utils.dataprovider.DataProviderUtils;
+import com.automate.utils.dataprovider.ExcelUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading the test data sheet at different sizes, with and without the parsed sheet cache, and the data provider lookup of a
+ * test method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestDataBenchmark {
+
+  @Param({"10", "1000", "10000"})
+  private int rows;
+
+  @Param({"yes", "no"})
+  private String testDataCache;
+
+  private BenchmarkProject project;
+  private Method testMethod;
+
+  @Setup
+  public void setUp() throws NoSuchMethodException {
+    project = BenchmarkProject.create(Map.of("test_data_cache", testDataCache));
+    project.writeTestData(rows);
+    testMethod = TestDataBenchmark.class.getMethod("validLogin", TestData.class);
+  }
+
+  @TearDown
+  public void tearDown() {
+    project.delete();
+  }
+
+  @Benchmark
+  public List<Map<String, String>> getTestDetails() {
+    return ExcelUtils.getTestDetails(FrameworkConstants.TEST_DATA_SHEET);
+  }
+
+  @Benchmark
+  public Object[][] getData() {
+    return DataProviderUtils.getData(testMethod);
+  }
+
+  /**
+   * Stands in for the data driven test method whose rows {@link #getData()} looks up.
+   */
+  public void validLogin(TestData data) {
+    // never called
+  }
+}
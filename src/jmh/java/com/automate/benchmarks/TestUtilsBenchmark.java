@@ -0,0 +1,59 @@
+package com.automate.benchmarks;
+
+import com.automate.utils.TestUtils;
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The logger lookup every framework class does per log statement and parsing an Android strings.xml of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestUtilsBenchmark {
+
+  @Param({"10", "1000"})
+  private int strings;
+
+  private byte[] stringsXml;
+
+  @Setup
+  public void setUp() {
+    StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"utf-8\"?>\n<resources>\n");
+    for (int i = 0; i < strings; i++) {
+      xml.append("  <string name=\"key_").append(i).append("\">Value ").append(i).append("</string>\n");
+    }
+    stringsXml = xml.append("</resources>\n").toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public Logger log() {
+    return TestUtils.log();
+  }
+
+  @Benchmark
+  public Map<String, String> parseStringXML() throws IOException, SAXException, ParserConfigurationException {
+    return TestUtils.parseStringXML(new ByteArrayInputStream(stringsXml));
+  }
+}
@@ -0,0 +1,66 @@
+package com.automate.benchmarks;
+
+import com.automate.driver.manager.DriverManager;
+import com.automate.enums.WaitStrategy;
+import com.automate.factories.WaitFactory;
+import io.appium.java_client.AppiumBy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waiting for an element that is already there, per wait strategy, against the fake appium server: the cost the framework and
+ * the http round trips add to every step.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WaitFactoryBenchmark {
+
+  private static final By USERNAME = AppiumBy.accessibilityId("test-Username");
+
+  @Param({"NONE", "PRESENCE", "VISIBLE", "CLICKABLE"})
+  private WaitStrategy waitStrategy;
+
+  private BenchmarkProject project;
+  private WebElement element;
+
+  @Setup
+  public void setUp() {
+    project = BenchmarkProject.create(FakeDriverSession.PROPERTIES);
+    FakeDriverSession.start();
+    element = DriverManager.getDriver().findElement(USERNAME);
+  }
+
+  @TearDown
+  public void tearDown() {
+    FakeDriverSession.stop();
+    project.delete();
+  }
+
+  @Benchmark
+  public WebElement explicitlyWaitForElementLocatedBy() {
+    return WaitFactory.explicitlyWaitForElementLocatedBy(waitStrategy, USERNAME);
+  }
+
+  @Benchmark
+  public WebElement explicitlyWaitForElement() {
+    return WaitFactory.explicitlyWaitForElement(waitStrategy, element);
+  }
+}
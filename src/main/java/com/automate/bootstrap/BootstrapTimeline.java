@@ -0,0 +1,72 @@
+package com.automate.bootstrap;
+
+import com.automate.reports.ExtentReportManager;
+import com.automate.utils.TestUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * When every bootstrap stage started and how long it ran, relative to the start of the bootstrap.
+ */
+final class BootstrapTimeline {
+
+  private final long origin = System.nanoTime();
+  private final Queue<Entry> entries = new ConcurrentLinkedQueue<>();
+
+  <T> T time(String stage, Supplier<T> work) {
+    long start = System.nanoTime();
+    boolean failed = true;
+    try {
+      T result = work.get();
+      failed = false;
+      return result;
+    } finally {
+      entries.add(new Entry(stage, Thread.currentThread().getName(), start - origin, System.nanoTime() - start, failed));
+    }
+  }
+
+  /**
+   * Logs the stages in start order and adds them to the environment section of the report.
+   */
+  void report() {
+    long total = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - origin);
+    List<Entry> stages = new ArrayList<>(entries);
+    stages.sort(Comparator.comparingLong(entry -> entry.startNanos));
+    StringBuilder timeline = new StringBuilder();
+    for (Entry entry : stages) {
+      timeline.append(String.format("%n  %-13s +%6d ms %6d ms  %s%s", entry.stage, toMillis(entry.startNanos),
+                                    toMillis(entry.durationNanos), entry.thread, entry.failed ? "  FAILED" : ""));
+      ExtentReportManager.addSystemInfo("Bootstrap - " + entry.stage,
+                                        "+" + toMillis(entry.startNanos) + " ms, took " + toMillis(entry.durationNanos) + " ms");
+    }
+    ExtentReportManager.addSystemInfo("Bootstrap - time to first test", total + " ms");
+    TestUtils.log().info("Suite bootstrap took {} ms{}", total, timeline);
+  }
+
+  private static long toMillis(long nanos) {
+    return TimeUnit.NANOSECONDS.toMillis(nanos);
+  }
+
+  private static final class Entry {
+
+    private final String stage;
+    private final String thread;
+    private final long startNanos;
+    private final long durationNanos;
+    private final boolean failed;
+
+    private Entry(String stage, String thread, long startNanos, long durationNanos, boolean failed) {
+      this.stage = stage;
+      this.thread = thread;
+      this.startNanos = startNanos;
+      this.durationNanos = durationNanos;
+      this.failed = failed;
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package com.automate.bootstrap;
+
+import com.automate.customexceptions.FrameworkException;
+import com.automate.driver.capabilities.CapabilityTemplates;
+import com.automate.driver.device.Device;
+import com.automate.driver.device.DeviceRegistry;
+import com.automate.driver.pool.SessionPrewarmer;
+import com.automate.enums.ConfigJson;
+import com.automate.enums.ConfigProperties;
+import com.automate.enums.MobilePlatformName;
+import com.automate.reports.ExtentReportManager;
+import com.automate.utils.AppiumServerManager;
+import com.automate.utils.TestUtils;
+import com.automate.utils.configloader.JsonUtils;
+import com.automate.utils.configloader.PropertyUtils;
+import com.automate.utils.dataprovider.DataProviderUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.testng.ISuite;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Prepares a suite as a graph of concurrent stages instead of one step after the other:
+ * <pre>
+ * config --+-- report --------------------------+
+ *          +-- data                             |
+ *          +-- capabilities --------------------+-- prewarm
+ *          +-- devices ------- server ----------+
+ * </pre>
+ * Started from Listeners.onStart, the earliest hook of the suite, and awaited in BaseTest.beforeSuite, so the stages overlap
+ * with TestNG's own suite setup. The timeline of the stages is logged and added to the report. A failing data stage only
+ * logs a warning, since only data driven tests need it; any other failing stage fails the suite.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SuiteBootstrap {
+
+  private static final int THREADS = 4;
+  private static Run current;
+
+  /**
+   * Starts the bootstrap of the suite unless it is already running. Returns immediately.
+   */
+  public static synchronized void start(ISuite suite) {
+    if (Objects.isNull(current) || current.suite != suite) {
+      current = new Run(suite);
+    }
+  }
+
+  /**
+   * Waits until every stage of the suite started last is done. TestNG does not inject the suite into {@code @BeforeSuite}
+   * methods, so the suite is the one Listeners.onStart passed to {@link #start}.
+   */
+  public static void await() {
+    Run run;
+    synchronized (SuiteBootstrap.class) {
+      run = current;
+    }
+    if (Objects.isNull(run)) {
+      throw new FrameworkException("Suite bootstrap was not started, register com.automate.listeners.Listeners in the suite");
+    }
+    run.await();
+  }
+
+  private static final class Run {
+
+    private final ISuite suite;
+    private final BootstrapTimeline timeline = new BootstrapTimeline();
+    private final ExecutorService executor = newExecutor();
+    private final CompletableFuture<Void> done;
+    private boolean reported;
+
+    private Run(ISuite suite) {
+      this.suite = suite;
+      CompletableFuture<Void> config = stage("config", () -> {
+        PropertyUtils.getBooleanValue(ConfigProperties.START_APPIUM_SERVER);
+        JsonUtils.getConfig(ConfigJson.APPIUM_URL);
+      });
+      CompletableFuture<Void> report = stage("report", ExtentReportManager::initExtentReport, config);
+      CompletableFuture<Void> data = stage("data", DataProviderUtils::preload, config)
+        .exceptionally(e -> {
+          TestUtils.log().warn("Preloading the test data failed, data driven tests will load it again", e);
+          return null;
+        });
+      CompletableFuture<Void> capabilities = stage("capabilities", () -> CapabilityTemplates.get(MobilePlatformName.ANDROID),
+                                                   config);
+      CompletableFuture<List<Device>> devices = config.thenApplyAsync(
+        ignored -> time("devices", () -> DeviceRegistry.getSuiteDevices(suite.getXmlSuite())), executor);
+      CompletableFuture<Void> server = stage("server", () -> AppiumServerManager.startAppiumServer(devices.join()), devices);
+      CompletableFuture<Void> prewarm = stage("prewarm", () -> SessionPrewarmer.prewarm(devices.join()),
+                                              report, capabilities, server);
+      done = CompletableFuture.allOf(data, prewarm);
+      done.whenComplete((ignored, failure) -> executor.shutdown());
+    }
+
+    private CompletableFuture<Void> stage(String name, Runnable work, CompletableFuture<?>... dependencies) {
+      return CompletableFuture.allOf(dependencies).thenRunAsync(() -> time(name, () -> {
+        work.run();
+        return null;
+      }), executor);
+    }
+
+    private <T> T time(String name, Supplier<T> work) {
+      try {
+        return timeline.time(name, work);
+      } catch (RuntimeException | Error e) {
+        throw new FrameworkException("Suite bootstrap stage " + name + " failed", e);
+      }
+    }
+
+    private void await() {
+      try {
+        done.join();
+      } catch (CompletionException e) {
+        throw e.getCause() instanceof FrameworkException
+          ? (FrameworkException) e.getCause()
+          : new FrameworkException("Suite bootstrap failed", e.getCause());
+      } finally {
+        report();
+      }
+    }
+
+    private synchronized void report() {
+      if (!reported) {
+        reported = true;
+        timeline.report();
+      }
+    }
+
+    private static ExecutorService newExecutor() {
+      AtomicInteger threadNumber = new AtomicInteger();
+      return Executors.newFixedThreadPool(THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "suite-bootstrap-" + threadNumber.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+}
@@ -31,17 +31,21 @@ public final class FrameworkConstants {
   public static final String APPIUM_JS_PATH = "C:\\nvm4w\\nodejs\\node_modules\\appium\\build\\lib\\main.js";
   public static final String CREDENTIALS_JSON = "data/credentials.json";
   public static final long EXPLICIT_WAIT = 15;
+  public static final long IMPLICIT_WAIT = 30;
   public static final String TEST_DATA_SHEET = "TEST_DATA";
   public static final String IOS_APP_PATH = "";
   public static final String SCREENSHOT_PATH = PROJECT_PATH + File.separator + "screenshots";
+  public static final String TEST_DATA_CACHE_PATH = PROJECT_PATH + File.separator + "test-data-cache";
   public static final String NODEJS_PATH = System.getenv("NVM_SYMLINK") + File.separator + "node.exe";
 
   private static final String EXTENT_REPORT_PATH = PROJECT_PATH + File.separator + "extent-test-report";
   private static final String APPIUM_SERVER_LOGS_PATH = PROJECT_PATH + File.separator + "server-logs";
   private static final String SCREEN_RECORDING_PATH = PROJECT_PATH + File.separator + "screen-recordings";
+  private static final String COMMAND_LATENCY_PATH = PROJECT_PATH + File.separator + "command-latency";
+  private static final String LOCATOR_PROFILE_PATH = PROJECT_PATH + File.separator + "locator-profile";
 
   public static String getExtentReportPath() {
-    if (PropertyUtils.getPropertyValue(ConfigProperties.OVERRIDE_REPORTS).equalsIgnoreCase("yes")) {
+    if (PropertyUtils.getBooleanValue(ConfigProperties.OVERRIDE_REPORTS)) {
       return EXTENT_REPORT_PATH + File.separator + "index.html";
     } else {
       return EXTENT_REPORT_PATH + File.separator + getCurrentDateTime() + File.separator + "index.html";
@@ -49,13 +53,29 @@ public final class FrameworkConstants {
   }
 
   public static String getAppiumServerLogsPath() {
-    if (PropertyUtils.getPropertyValue(ConfigProperties.OVERRIDE_SERVER_LOG).equalsIgnoreCase("yes")) {
+    if (PropertyUtils.getBooleanValue(ConfigProperties.OVERRIDE_SERVER_LOG)) {
       return APPIUM_SERVER_LOGS_PATH + File.separator + "server.log";
     } else {
       return APPIUM_SERVER_LOGS_PATH + File.separator + getCurrentDateTime() + File.separator + "server.log";
     }
   }
 
+  public static String getCommandLatencyPath() {
+    if (PropertyUtils.getBooleanValue(ConfigProperties.OVERRIDE_REPORTS)) {
+      return COMMAND_LATENCY_PATH + File.separator + "command-latency.json";
+    } else {
+      return COMMAND_LATENCY_PATH + File.separator + getCurrentDateTime() + File.separator + "command-latency.json";
+    }
+  }
+
+  public static String getLocatorProfilePath() {
+    if (PropertyUtils.getBooleanValue(ConfigProperties.OVERRIDE_REPORTS)) {
+      return LOCATOR_PROFILE_PATH + File.separator + "locator-profile.json";
+    } else {
+      return LOCATOR_PROFILE_PATH + File.separator + getCurrentDateTime() + File.separator + "locator-profile.json";
+    }
+  }
+
   public static String getScreenRecordingsPath() {
     File screenRecordingsDir = new File(SCREEN_RECORDING_PATH);
     if (!screenRecordingsDir.exists()) {
@@ -1,45 +1,46 @@
 package com.automate.driver;
 
-import com.automate.constants.FrameworkConstants;
 import com.automate.customexceptions.DriverInitializationException;
-import com.automate.enums.ConfigJson;
-import com.automate.enums.MobileBrowserName;
+import com.automate.driver.capabilities.CapabilityTemplate;
+import com.automate.driver.capabilities.CapabilityTemplates;
+import com.automate.driver.metrics.CommandMetrics;
+import com.automate.driver.metrics.TimedCommandExecutor;
+import com.automate.driver.server.AppiumServerPool;
+import com.automate.driver.server.FakeAppiumServer;
+import com.automate.driver.transport.AppiumTransport;
+import com.automate.enums.MobilePlatformName;
 import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.MobileCommand;
 import io.appium.java_client.android.AndroidDriver;
-import io.appium.java_client.ios.IOSDriver;
 import io.appium.java_client.android.options.UiAutomator2Options;
+import io.appium.java_client.ios.IOSDriver;
 import io.appium.java_client.ios.options.XCUITestOptions;
-import io.appium.java_client.remote.AutomationName;
+import io.appium.java_client.remote.AppiumCommandExecutor;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.openqa.selenium.Platform;
-import org.openqa.selenium.remote.CapabilityType;
 
-import java.net.URI;
 import java.net.URL;
-import java.time.Duration;
-
-import static com.automate.utils.configloader.JsonUtils.getConfig;
+import java.util.Objects;
 
+/**
+ * Starts sessions from the {@link CapabilityTemplates} of the platform, adding only the device specific capabilities. All
+ * sessions talk to their server through the shared {@link AppiumTransport}.
+ */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class Drivers {
 
   public static AppiumDriver createAndroidDriverForNativeApp(String deviceName, String udid, int port, String emulator) {
     try {
-      UiAutomator2Options options = new UiAutomator2Options();
-      options.setPlatformName(Platform.ANDROID.name());
+      CapabilityTemplate template = CapabilityTemplates.get(MobilePlatformName.ANDROID);
+      UiAutomator2Options options = template.newUiAutomator2Options();
       options.setDeviceName(deviceName);
-      options.setAutomationName(AutomationName.ANDROID_UIAUTOMATOR2);
       options.setUdid(udid);
-      options.setApp(FrameworkConstants.ANDROID_APK_PATH);
-      options.setAppPackage(getConfig(ConfigJson.APP_PACKAGE));
-      options.setAppActivity(getConfig(ConfigJson.APP_ACTIVITY));
       options.setSystemPort(port);
       if (emulator.equalsIgnoreCase("yes")) {
         options.setAvd(deviceName);
-        options.setAvdLaunchTimeout(Duration.ofSeconds(Integer.parseInt(getConfig(ConfigJson.AVD_LAUNCH_TIMEOUT))));
+        options.setAvdLaunchTimeout(template.getAvdLaunchTimeout());
       }
-      return new AndroidDriver(new URI(getConfig(ConfigJson.APPIUM_URL)).toURL(), options);
+      return new AndroidDriver(getCommandExecutor(template, deviceName, udid), options);
     } catch (Exception e) {
       throw new DriverInitializationException("Failed to initialize driver. Please check the desired capabilities", e);
     }
@@ -47,19 +48,17 @@ public final class Drivers {
 
   public static AppiumDriver createAndroidDriverForWeb(String deviceName, String udid, int port, String emulator) {
     try {
-      UiAutomator2Options options = new UiAutomator2Options();
-      options.setPlatformName(Platform.ANDROID.name());
+      CapabilityTemplate template = CapabilityTemplates.get(MobilePlatformName.ANDROID_WEB);
+      UiAutomator2Options options = template.newUiAutomator2Options();
       options.setDeviceName(deviceName);
-      options.setAutomationName(AutomationName.ANDROID_UIAUTOMATOR2);
       options.setUdid(udid);
-      options.setCapability(CapabilityType.BROWSER_NAME, MobileBrowserName.CHROME);
       options.setCapability("chromedriverPort", port);
       if (emulator.equalsIgnoreCase("yes")) {
-        options.setCapability("avd", deviceName);
-        options.setCapability("avdLaunchTimeout", Integer.parseInt(getConfig(ConfigJson.AVD_LAUNCH_TIMEOUT)));
+        options.setAvd(deviceName);
+        options.setAvdLaunchTimeout(template.getAvdLaunchTimeout());
       }
 
-      return new AndroidDriver(new URL(getConfig(ConfigJson.APPIUM_URL)), options);
+      return new AndroidDriver(getCommandExecutor(template, deviceName, udid), options);
     } catch (Exception e) {
       throw new DriverInitializationException("Failed to initialize driver. Please check the desired capabilities", e);
     }
@@ -67,16 +66,13 @@ public final class Drivers {
 
   public static AppiumDriver createIOSDriverForNativeApp(String deviceName, String udid, int port) {
     try {
-      XCUITestOptions options = new XCUITestOptions();
-      options.setPlatformName(Platform.IOS.name());
+      CapabilityTemplate template = CapabilityTemplates.get(MobilePlatformName.IOS);
+      XCUITestOptions options = template.newXCUITestOptions();
       options.setDeviceName(deviceName);
-      options.setAutomationName(AutomationName.IOS_XCUI_TEST);
       options.setUdid(udid);
-      options.setApp(FrameworkConstants.IOS_APP_PATH);
-      options.setCapability("bundleId", getConfig(ConfigJson.BUNDLE_ID));
       options.setCapability("wdaLocalPort", port);
 
-      return new IOSDriver(new URL(getConfig(ConfigJson.APPIUM_URL)), options);
+      return new IOSDriver(getCommandExecutor(template, deviceName, udid), options);
     } catch (Exception e) {
       throw new DriverInitializationException("Failed to initialize driver. Please check the desired capabilities", e);
     }
@@ -84,18 +80,32 @@ public final class Drivers {
 
   public static AppiumDriver createIOSDriverForWeb(String deviceName, String udid, int port) {
     try {
-      XCUITestOptions options = new XCUITestOptions();
-      options.setPlatformName(Platform.IOS.name());
+      CapabilityTemplate template = CapabilityTemplates.get(MobilePlatformName.IOS_WEB);
+      XCUITestOptions options = template.newXCUITestOptions();
       options.setDeviceName(deviceName);
-      options.setAutomationName(AutomationName.IOS_XCUI_TEST);
       options.setUdid(udid);
-      options.setCapability("bundleId", getConfig(ConfigJson.BUNDLE_ID));
-      options.setCapability(CapabilityType.BROWSER_NAME, MobileBrowserName.SAFARI);
       options.setCapability("webkitDebugProxyPort", port);
 
-      return new IOSDriver(new URL(getConfig(ConfigJson.APPIUM_URL)), options);
+      return new IOSDriver(getCommandExecutor(template, deviceName, udid), options);
     } catch (Exception e) {
       throw new DriverInitializationException("Failed to initialize driver. Please check the desired capabilities", e);
     }
   }
+
+  /**
+   * @return an executor on the shared transport that talks to the {@link FakeAppiumServer} when enabled, else to the server
+   * the device is pinned to in the {@link AppiumServerPool} or the configured one, and with record_command_latency enabled
+   * also times every command
+   */
+  private static AppiumCommandExecutor getCommandExecutor(CapabilityTemplate template, String deviceName, String udid) {
+    String deviceId = Objects.isNull(udid) || udid.isBlank() ? deviceName : udid;
+    URL serverUrl = FakeAppiumServer.isEnabled() ? FakeAppiumServer.getUrl() : AppiumServerPool.getServerUrl(deviceId);
+    if (Objects.isNull(serverUrl)) {
+      serverUrl = template.getServerUrl();
+    }
+    if (CommandMetrics.isEnabled()) {
+      return new TimedCommandExecutor(serverUrl, AppiumTransport.getClientFactory(), template.getPlatform() + "-" + deviceId);
+    }
+    return new AppiumCommandExecutor(MobileCommand.commandRepository, serverUrl, AppiumTransport.getClientFactory());
+  }
 }
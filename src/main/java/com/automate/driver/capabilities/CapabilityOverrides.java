@@ -0,0 +1,65 @@
+package com.automate.driver.capabilities;
+
+import com.automate.constants.FrameworkConstants;
+import com.automate.customexceptions.FrameworkException;
+import com.automate.enums.ConfigProperties;
+import com.automate.enums.MobilePlatformName;
+import com.automate.utils.configloader.PropertyUtils;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Capability overrides from the files listed in capability_files, relative to src/test/resources. Each file may hold a
+ * "common" section and one section per platform (android, android_web, ios, ios_web). Layers are applied file by file in
+ * the listed order, common before the platform section, so later entries win.
+ */
+final class CapabilityOverrides {
+
+  private static final String COMMON_SECTION = "common";
+
+  private final List<Map<String, Map<String, Object>>> layers;
+
+  private CapabilityOverrides(List<Map<String, Map<String, Object>>> layers) {
+    this.layers = layers;
+  }
+
+  static CapabilityOverrides load() {
+    ObjectMapper mapper = new ObjectMapper();
+    List<Map<String, Map<String, Object>>> layers = new ArrayList<>();
+    for (String path : PropertyUtils.getPropertyValue(ConfigProperties.CAPABILITY_FILES).split(",")) {
+      if (path.isBlank()) {
+        continue;
+      }
+      File file = new File(FrameworkConstants.TEST_RESOURCES_DIR, path.trim());
+      try {
+        layers.add(mapper.readValue(file, new TypeReference<>() {
+        }));
+      } catch (IOException e) {
+        throw new FrameworkException("Unable to read the capability overrides " + file, e);
+      }
+    }
+    return new CapabilityOverrides(layers);
+  }
+
+  /**
+   * @return the merged overrides of the platform, in layer order
+   */
+  Map<String, Object> forPlatform(MobilePlatformName platform) {
+    String section = platform.name().toLowerCase(Locale.ROOT);
+    Map<String, Object> overrides = new LinkedHashMap<>();
+    for (Map<String, Map<String, Object>> layer : layers) {
+      overrides.putAll(layer.getOrDefault(COMMON_SECTION, Collections.emptyMap()));
+      overrides.putAll(layer.getOrDefault(section, Collections.emptyMap()));
+    }
+    return overrides;
+  }
+}
@@ -0,0 +1,55 @@
+package com.automate.driver.capabilities;
+
+import com.automate.enums.MobilePlatformName;
+import io.appium.java_client.android.options.UiAutomator2Options;
+import io.appium.java_client.ios.options.XCUITestOptions;
+import org.openqa.selenium.Capabilities;
+
+import java.net.URL;
+import java.time.Duration;
+
+/**
+ * Capabilities shared by every session of a platform, with the parsed Appium server url. Sessions start from a copy and only
+ * add their device specific fields.
+ */
+public final class CapabilityTemplate {
+
+  private final MobilePlatformName platform;
+  private final Capabilities capabilities;
+  private final URL serverUrl;
+  private final Duration avdLaunchTimeout;
+
+  CapabilityTemplate(MobilePlatformName platform, Capabilities capabilities, URL serverUrl, Duration avdLaunchTimeout) {
+    this.platform = platform;
+    this.capabilities = capabilities;
+    this.serverUrl = serverUrl;
+    this.avdLaunchTimeout = avdLaunchTimeout;
+  }
+
+  public MobilePlatformName getPlatform() {
+    return platform;
+  }
+
+  /**
+   * @return the immutable template capabilities
+   */
+  public Capabilities getCapabilities() {
+    return capabilities;
+  }
+
+  public URL getServerUrl() {
+    return serverUrl;
+  }
+
+  public Duration getAvdLaunchTimeout() {
+    return avdLaunchTimeout;
+  }
+
+  public UiAutomator2Options newUiAutomator2Options() {
+    return new UiAutomator2Options(capabilities);
+  }
+
+  public XCUITestOptions newXCUITestOptions() {
+    return new XCUITestOptions(capabilities);
+  }
+}
@@ -0,0 +1,108 @@
+package com.automate.driver.capabilities;
+
+import com.automate.constants.FrameworkConstants;
+import com.automate.customexceptions.DriverInitializationException;
+import com.automate.enums.ConfigJson;
+import com.automate.enums.MobileBrowserName;
+import com.automate.enums.MobilePlatformName;
+import io.appium.java_client.android.options.UiAutomator2Options;
+import io.appium.java_client.ios.options.XCUITestOptions;
+import io.appium.java_client.remote.AutomationName;
+import io.appium.java_client.remote.options.BaseOptions;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.Platform;
+import org.openqa.selenium.remote.CapabilityType;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.automate.utils.configloader.JsonUtils.getConfig;
+import static com.automate.utils.configloader.JsonUtils.getIntConfig;
+
+/**
+ * One {@link CapabilityTemplate} per {@link MobilePlatformName}, built together on first use from config.json and the
+ * capability overrides. Config values, the app paths and the Appium url are read and parsed once per run instead of once
+ * per session.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CapabilityTemplates {
+
+  public static CapabilityTemplate get(MobilePlatformName platform) {
+    return Holder.TEMPLATES.get(platform);
+  }
+
+  private static Map<MobilePlatformName, CapabilityTemplate> build() {
+    URL serverUrl = parseUrl(getConfig(ConfigJson.APPIUM_URL));
+    Duration avdLaunchTimeout = Duration.ofSeconds(getIntConfig(ConfigJson.AVD_LAUNCH_TIMEOUT));
+    CapabilityOverrides overrides = CapabilityOverrides.load();
+
+    Map<MobilePlatformName, BaseOptions<?>> options = new EnumMap<>(MobilePlatformName.class);
+    options.put(MobilePlatformName.ANDROID, androidNativeApp());
+    options.put(MobilePlatformName.ANDROID_WEB, androidWeb());
+    options.put(MobilePlatformName.IOS, iosNativeApp());
+    options.put(MobilePlatformName.IOS_WEB, iosWeb());
+
+    Map<MobilePlatformName, CapabilityTemplate> templates = new EnumMap<>(MobilePlatformName.class);
+    options.forEach((platform, platformOptions) -> {
+      overrides.forPlatform(platform).forEach(platformOptions::setCapability);
+      templates.put(platform, new CapabilityTemplate(platform, new ImmutableCapabilities(platformOptions), serverUrl,
+                                                     avdLaunchTimeout));
+    });
+    return templates;
+  }
+
+  private static UiAutomator2Options androidNativeApp() {
+    UiAutomator2Options options = new UiAutomator2Options();
+    options.setPlatformName(Platform.ANDROID.name());
+    options.setAutomationName(AutomationName.ANDROID_UIAUTOMATOR2);
+    options.setApp(FrameworkConstants.ANDROID_APK_PATH);
+    options.setAppPackage(getConfig(ConfigJson.APP_PACKAGE));
+    options.setAppActivity(getConfig(ConfigJson.APP_ACTIVITY));
+    return options;
+  }
+
+  private static UiAutomator2Options androidWeb() {
+    UiAutomator2Options options = new UiAutomator2Options();
+    options.setPlatformName(Platform.ANDROID.name());
+    options.setAutomationName(AutomationName.ANDROID_UIAUTOMATOR2);
+    options.setCapability(CapabilityType.BROWSER_NAME, MobileBrowserName.CHROME);
+    return options;
+  }
+
+  private static XCUITestOptions iosNativeApp() {
+    XCUITestOptions options = new XCUITestOptions();
+    options.setPlatformName(Platform.IOS.name());
+    options.setAutomationName(AutomationName.IOS_XCUI_TEST);
+    options.setApp(FrameworkConstants.IOS_APP_PATH);
+    options.setCapability("bundleId", getConfig(ConfigJson.BUNDLE_ID));
+    return options;
+  }
+
+  private static XCUITestOptions iosWeb() {
+    XCUITestOptions options = new XCUITestOptions();
+    options.setPlatformName(Platform.IOS.name());
+    options.setAutomationName(AutomationName.IOS_XCUI_TEST);
+    options.setCapability("bundleId", getConfig(ConfigJson.BUNDLE_ID));
+    options.setCapability(CapabilityType.BROWSER_NAME, MobileBrowserName.SAFARI);
+    return options;
+  }
+
+  private static URL parseUrl(String url) {
+    try {
+      return new URI(url).toURL();
+    } catch (URISyntaxException | MalformedURLException | IllegalArgumentException e) {
+      throw new DriverInitializationException("Invalid appium_url " + url + ". Please check the config.json", e);
+    }
+  }
+
+  private static final class Holder {
+    private static final Map<MobilePlatformName, CapabilityTemplate> TEMPLATES = build();
+  }
+}
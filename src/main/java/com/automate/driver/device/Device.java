@@ -0,0 +1,70 @@
+package com.automate.driver.device;
+
+import com.automate.enums.MobilePlatformName;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A device tests can run on, with the same details a {@code <test>} of the suite XML passes to BaseTest.setUp.
+ */
+@Getter
+@EqualsAndHashCode
+@Builder(setterPrefix = "set")
+public final class Device {
+
+  private final MobilePlatformName platformName;
+  private final String udid;
+  private final String deviceName;
+  /**
+   * systemPort, chromeDriverPort, wdaLocalPort or webkitDebugProxyPort, whichever the platform needs. 0 when the port is to
+   * be leased from the PortAllocator.
+   */
+  private final int port;
+  private final String emulator;
+
+  /**
+   * Reads a device from suite XML parameters: platformName, udid, deviceName, emulator and the port parameter of the
+   * platform. A missing or non-numeric port is left to the PortAllocator.
+   */
+  public static Device fromParameters(Map<String, String> parameters) {
+    MobilePlatformName platform = MobilePlatformName.valueOf(parameters.get("platformName").toUpperCase(Locale.ROOT));
+    String port = parameters.get(getPortParameter(platform));
+    return Device.builder()
+      .setPlatformName(platform)
+      .setUdid(parameters.get("udid"))
+      .setDeviceName(parameters.get("deviceName"))
+      .setPort(Objects.nonNull(port) && port.trim().matches("\\d+") ? Integer.parseInt(port.trim()) : 0)
+      .setEmulator(parameters.getOrDefault("emulator", "no"))
+      .build();
+  }
+
+  private static String getPortParameter(MobilePlatformName platform) {
+    switch (platform) {
+      case ANDROID:
+        return "systemPort";
+      case ANDROID_WEB:
+        return "chromeDriverPort";
+      case IOS:
+        return "wdaLocalPort";
+      default:
+        return "webkitDebugProxyPort";
+    }
+  }
+
+  /**
+   * @return udid or, when the device has none, its name
+   */
+  public String getId() {
+    return Objects.isNull(udid) || udid.isBlank() ? deviceName : udid;
+  }
+
+  @Override
+  public String toString() {
+    return platformName.name().toLowerCase(Locale.ROOT) + "-" + getId();
+  }
+}
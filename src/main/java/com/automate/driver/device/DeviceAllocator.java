@@ -0,0 +1,66 @@
+package com.automate.driver.device;
+
+import com.automate.customexceptions.FrameworkException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands the devices of the {@link DeviceRegistry} to test threads, one test method at a time. A thread gets its previous
+ * device back when it is free, which keeps the pooled session of that device warm. Otherwise it takes the device that has
+ * been idle the longest: released devices go to the head of the free list and other threads steal from its tail.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DeviceAllocator {
+
+  private static final long LEASE_TIMEOUT_MINUTES = 30;
+  private static final ThreadLocal<Device> LEASED_DEVICE = new ThreadLocal<>();
+  private static final ThreadLocal<Device> LAST_DEVICE = new ThreadLocal<>();
+
+  /**
+   * Blocks until a device is free. Each lease has to be followed by {@link #release()} on the same thread.
+   */
+  public static Device lease() {
+    Device leased = LEASED_DEVICE.get();
+    if (Objects.nonNull(leased)) {
+      return leased;
+    }
+    Device last = LAST_DEVICE.get();
+    Device device = Objects.nonNull(last) && Holder.FREE_DEVICES.remove(last) ? last : steal();
+    LEASED_DEVICE.set(device);
+    LAST_DEVICE.set(device);
+    return device;
+  }
+
+  private static Device steal() {
+    try {
+      Device device = Holder.FREE_DEVICES.pollLast(LEASE_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+      if (Objects.isNull(device)) {
+        throw new FrameworkException("No device became free within " + LEASE_TIMEOUT_MINUTES + " minutes");
+      }
+      return device;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FrameworkException("Interrupted while waiting for a free device", e);
+    }
+  }
+
+  /**
+   * Returns the device leased by the current thread, if any.
+   */
+  public static void release() {
+    Device device = LEASED_DEVICE.get();
+    if (Objects.nonNull(device)) {
+      LEASED_DEVICE.remove();
+      Holder.FREE_DEVICES.offerFirst(device);
+    }
+  }
+
+  private static final class Holder {
+    private static final BlockingDeque<Device> FREE_DEVICES = new LinkedBlockingDeque<>(DeviceRegistry.getDevices());
+  }
+}
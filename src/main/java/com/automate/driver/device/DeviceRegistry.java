@@ -0,0 +1,141 @@
+package com.automate.driver.device;
+
+import com.automate.constants.FrameworkConstants;
+import com.automate.customexceptions.FrameworkException;
+import com.automate.enums.ConfigProperties;
+import com.automate.enums.DeviceSource;
+import com.automate.enums.MobilePlatformName;
+import com.automate.utils.TestUtils;
+import com.automate.utils.configloader.PropertyUtils;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Devices available to the suite, discovered once per run from the source set in device_source: the output of
+ * device_list_command (adb devices format) or the devices_file JSON list of suite XML style parameters. Pointing either at a
+ * fixed list gives a fake device farm for dry runs.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DeviceRegistry {
+
+  private static final Pattern ADB_DEVICE_LINE = Pattern.compile("^(\\S+)\\s+device\\b.*$");
+  private static final long DEVICE_LIST_TIMEOUT_SECONDS = 30;
+
+  public static List<Device> getDevices() {
+    return Holder.DEVICES;
+  }
+
+  /**
+   * @return the discovered devices with dynamic_device_allocation, otherwise one entry per device of the suite XML taken from
+   * the first {@code <test>} that uses it. Tests without the device parameters are skipped.
+   */
+  public static List<Device> getSuiteDevices(XmlSuite suite) {
+    if (PropertyUtils.getBooleanValue(ConfigProperties.DYNAMIC_DEVICE_ALLOCATION)) {
+      return getDevices();
+    }
+    Map<String, Device> devices = new LinkedHashMap<>();
+    for (XmlTest test : suite.getTests()) {
+      Map<String, String> parameters = test.getAllParameters();
+      if (hasDevice(parameters)) {
+        Device device = Device.fromParameters(parameters);
+        devices.putIfAbsent(device.getId(), device);
+      } else {
+        TestUtils.log().warn("Skipping the device of test {}, its device parameters are incomplete", test.getName());
+      }
+    }
+    return new ArrayList<>(devices.values());
+  }
+
+  private static boolean hasDevice(Map<String, String> parameters) {
+    return parameters.containsKey("platformName")
+      && !(parameters.getOrDefault("udid", "").isBlank() && parameters.getOrDefault("deviceName", "").isBlank());
+  }
+
+  private static List<Device> discover() {
+    DeviceSource source = DeviceSource.valueOf(
+      PropertyUtils.getPropertyValue(ConfigProperties.DEVICE_SOURCE).trim().toUpperCase(Locale.ROOT));
+    List<Device> devices = source == DeviceSource.FILE ? readDevicesFile() : listAdbDevices();
+    TestUtils.log().info("Discovered {} devices from {}: {}", devices.size(), source, devices);
+    return Collections.unmodifiableList(devices);
+  }
+
+  private static List<Device> readDevicesFile() {
+    File file = new File(FrameworkConstants.TEST_RESOURCES_DIR, PropertyUtils.getPropertyValue(ConfigProperties.DEVICES_FILE));
+    try {
+      List<Map<String, Object>> entries = new ObjectMapper().readValue(file, new TypeReference<>() {
+      });
+      List<Device> devices = new ArrayList<>();
+      for (Map<String, Object> entry : entries) {
+        Map<String, String> parameters = new HashMap<>();
+        entry.forEach((name, value) -> parameters.put(name, Objects.isNull(value) ? "" : String.valueOf(value)));
+        devices.add(Device.fromParameters(parameters));
+      }
+      return devices;
+    } catch (IOException | RuntimeException e) {
+      throw new FrameworkException("Unable to read the device list " + file, e);
+    }
+  }
+
+
+  /**
+   * Devices in state "device" from the adb devices listing. Already booted emulators are attached like real devices, so no
+   * avd is launched for them. Their systemPort is leased when the session starts.
+   */
+  private static List<Device> listAdbDevices() {
+    String command = PropertyUtils.getPropertyValue(ConfigProperties.DEVICE_LIST_COMMAND);
+    List<Device> devices = new ArrayList<>();
+    try {
+      Process process = new ProcessBuilder(command.trim().split("\\s+")).redirectErrorStream(true).start();
+      try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          Matcher matcher = ADB_DEVICE_LINE.matcher(line.trim());
+          if (matcher.matches()) {
+            devices.add(Device.builder()
+                          .setPlatformName(MobilePlatformName.ANDROID)
+                          .setUdid(matcher.group(1))
+                          .setDeviceName(matcher.group(1))
+                          .setEmulator("no")
+                          .build());
+          }
+        }
+      }
+      if (!process.waitFor(DEVICE_LIST_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        process.destroyForcibly();
+        throw new FrameworkException("Device list command did not finish in time: " + command);
+      }
+      return devices;
+    } catch (IOException e) {
+      throw new FrameworkException("Unable to run the device list command: " + command, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FrameworkException("Interrupted while listing devices", e);
+    }
+  }
+
+  private static final class Holder {
+    private static final List<Device> DEVICES = discover();
+  }
+}
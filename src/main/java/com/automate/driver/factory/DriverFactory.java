@@ -3,19 +3,65 @@ package com.automate.driver.factory;
 import com.automate.customexceptions.DriverInitializationException;
 import com.automate.driver.Drivers;
 import com.automate.driver.manager.DriverManager;
+import com.automate.driver.pool.SessionPool;
+import com.automate.driver.port.PortAllocator;
+import com.automate.driver.port.PortLease;
+import com.automate.driver.transport.AppiumTransport;
+import com.automate.enums.ConfigProperties;
 import com.automate.enums.MobilePlatformName;
+import com.automate.factories.WaitFactory;
+import com.automate.utils.configloader.PropertyUtils;
 import io.appium.java_client.AppiumDriver;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.openqa.selenium.remote.SessionId;
 
-import java.time.Duration;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class DriverFactory {
 
+  private static final Map<SessionId, PortLease> PORT_LEASES = new ConcurrentHashMap<>();
+
+  /**
+   * Sets up the driver of the current thread. With reuse_sessions enabled an idle session of the device is reset and reused
+   * instead of creating a new one.
+   */
   public static void initializeDriver(MobilePlatformName mobilePlatformName, String deviceName, String udid, int port,
                                       String emulator) {
+    AppiumDriver driver = PropertyUtils.getBooleanValue(ConfigProperties.REUSE_SESSIONS)
+      ? SessionPool.acquire(mobilePlatformName, udid, deviceName,
+                            () -> createDriver(mobilePlatformName, deviceName, udid, port, emulator))
+      : createDriver(mobilePlatformName, deviceName, udid, port, emulator);
+    DriverManager.setAppiumDriver(driver);
+  }
+
+  /**
+   * Starts a new session without touching the driver of the current thread.
+   *
+   * @param port systemPort, chromedriverPort, wdaLocalPort or webkitDebugProxyPort depending on the platform. With 0 a free
+   *             port is leased from the {@link PortAllocator} and released when the session is quit through {@link #quit}.
+   */
+  public static AppiumDriver createDriver(MobilePlatformName mobilePlatformName, String deviceName, String udid, int port,
+                                          String emulator) {
+    if (port > 0) {
+      return createDriverOnPort(mobilePlatformName, deviceName, udid, port, emulator);
+    }
+    PortLease lease = PortAllocator.lease(PortAllocator.getPortType(mobilePlatformName));
+    try {
+      AppiumDriver driver = createDriverOnPort(mobilePlatformName, deviceName, udid, lease.getPort(), emulator);
+      PORT_LEASES.put(driver.getSessionId(), lease);
+      return driver;
+    } catch (RuntimeException e) {
+      lease.release();
+      throw e;
+    }
+  }
+
+  private static AppiumDriver createDriverOnPort(MobilePlatformName mobilePlatformName, String deviceName, String udid,
+                                                 int port, String emulator) {
     AppiumDriver driver;
     switch (mobilePlatformName) {
       case ANDROID:
@@ -34,13 +80,42 @@ public final class DriverFactory {
         throw new DriverInitializationException(
           "Platform name " + mobilePlatformName + " is not found. Please check the platform name");
     }
-    DriverManager.setAppiumDriver(driver);
+    return driver;
   }
 
+  /**
+   * Ends the driver of the current thread. Pooled sessions are handed back to the pool and stay alive.
+   */
   public static void quitDriver() {
-    if (Objects.nonNull(DriverManager.getDriver())) {
-      DriverManager.getDriver().quit();
+    AppiumDriver driver = DriverManager.getDriver();
+    if (Objects.nonNull(driver)) {
+      if (!SessionPool.release(driver)) {
+        quit(driver);
+      }
       DriverManager.unload();
     }
   }
+
+  /**
+   * Quits the session and releases its reused explicit wait and the port leased for it, if any.
+   */
+  public static void quit(AppiumDriver driver) {
+    SessionId sessionId = driver.getSessionId();
+    try {
+      driver.quit();
+    } finally {
+      if (Objects.nonNull(sessionId)) {
+        WaitFactory.release(sessionId);
+        PortLease lease = PORT_LEASES.remove(sessionId);
+        if (Objects.nonNull(lease)) {
+          lease.release();
+        }
+      }
+    }
+  }
+
+  public static void quitAllDrivers() {
+    SessionPool.quitAll();
+    AppiumTransport.shutdown();
+  }
 }
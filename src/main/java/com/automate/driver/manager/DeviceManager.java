@@ -6,17 +6,15 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class DeviceManager {
 
-  private static final ThreadLocal<String> deviceName = new ThreadLocal<>();
-
   public static String getDeviceName() {
-    return deviceName.get();
+    return ExecutionContext.current().getDeviceName();
   }
 
   public static void setDeviceName(String device) {
-    deviceName.set(device);
+    ExecutionContext.set(ExecutionContext.current().toBuilder().setDeviceName(device).build());
   }
 
   public static void unloadDeviceName() {
-    deviceName.remove();
+    setDeviceName(null);
   }
 }
@@ -9,18 +9,16 @@ import java.util.Objects;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class DriverManager {
 
-  private static final ThreadLocal<AppiumDriver> threadLocalDriver = new ThreadLocal<>();
-
   public static AppiumDriver getDriver() {
-    return threadLocalDriver.get();
+    return ExecutionContext.current().getDriver();
   }
 
   public static void setAppiumDriver(AppiumDriver driver) {
     if (Objects.nonNull(driver))
-      threadLocalDriver.set(driver);
+      ExecutionContext.set(ExecutionContext.current().toBuilder().setDriver(driver).build());
   }
 
   public static void unload() {
-    threadLocalDriver.remove();
+    ExecutionContext.set(ExecutionContext.current().toBuilder().setDriver(null).build());
   }
 }
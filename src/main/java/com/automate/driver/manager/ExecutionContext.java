@@ -0,0 +1,72 @@
+package com.automate.driver.manager;
+
+import com.aventstack.extentreports.ExtentTest;
+import io.appium.java_client.AppiumDriver;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Everything a test step needs: the session, the device and platform it runs on and the report node it logs to. A context
+ * never changes; updating it sets a new one, so a context captured for a background task stays valid after the test moves
+ * on.
+ * <p>
+ * The context of a thread lives in a single carrier, read once per action by {@link DriverManager}, {@link DeviceManager},
+ * {@link PlatformManager} and ExtentReportManager. It is not inherited by new threads: work handed to an executor is
+ * wrapped with {@link #wrap(Runnable)} or {@link #wrap(Callable)} to run with the context of the submitting thread, which also
+ * holds for virtual threads.
+ */
+@Getter
+@Builder(toBuilder = true, setterPrefix = "set")
+public final class ExecutionContext {
+
+  private static final ExecutionContext EMPTY = ExecutionContext.builder().build();
+  private static final ThreadLocal<ExecutionContext> CURRENT = ThreadLocal.withInitial(() -> EMPTY);
+
+  private final AppiumDriver driver;
+  private final String deviceName;
+  private final String platformName;
+  private final ExtentTest extentTest;
+
+  public static ExecutionContext current() {
+    return CURRENT.get();
+  }
+
+  public static void set(ExecutionContext context) {
+    CURRENT.set(context);
+  }
+
+  /**
+   * @return a task that runs with the context of the calling thread and restores the previous context of the thread running
+   * it
+   */
+  public static Runnable wrap(Runnable task) {
+    ExecutionContext captured = current();
+    return () -> {
+      ExecutionContext previous = current();
+      set(captured);
+      try {
+        task.run();
+      } finally {
+        set(previous);
+      }
+    };
+  }
+
+  /**
+   * @see #wrap(Runnable)
+   */
+  public static <V> Callable<V> wrap(Callable<V> task) {
+    ExecutionContext captured = current();
+    return () -> {
+      ExecutionContext previous = current();
+      set(captured);
+      try {
+        return task.call();
+      } finally {
+        set(previous);
+      }
+    };
+  }
+}
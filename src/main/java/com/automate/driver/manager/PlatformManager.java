@@ -6,17 +6,15 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class PlatformManager {
 
-  private static final ThreadLocal<String> platformName = new ThreadLocal<>();
-
   public static String getPlatformName() {
-    return platformName.get();
+    return ExecutionContext.current().getPlatformName();
   }
 
   public static void setPlatformName(String platform) {
-    platformName.set(platform);
+    ExecutionContext.set(ExecutionContext.current().toBuilder().setPlatformName(platform).build());
   }
 
   public static void unloadPlatformName() {
-    platformName.remove();
+    setPlatformName(null);
   }
 }
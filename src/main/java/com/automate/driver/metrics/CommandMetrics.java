@@ -0,0 +1,167 @@
+package com.automate.driver.metrics;
+
+import com.automate.constants.FrameworkConstants;
+import com.automate.customexceptions.FrameworkException;
+import com.automate.enums.ConfigProperties;
+import com.automate.reports.ExtentReportManager;
+import com.automate.utils.TestUtils;
+import com.automate.utils.configloader.PropertyUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per command latency of the sessions started with a {@link TimedCommandExecutor} (see record_command_latency in
+ * config.properties), tagged by device, test method and page object. The test and the page are tracked per thread; a thread
+ * resolves its histograms again only when one of its tags changes, so timing a command costs two {@link System#nanoTime()}
+ * calls and a few atomic increments.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CommandMetrics {
+
+  private static final String NONE = "-";
+  private static final double[] PERCENTILES = {50, 90, 95, 99};
+  private static final Map<String, Series> SERIES = new ConcurrentHashMap<>();
+  private static final Map<String, LatencyHistogram> COMMANDS = new ConcurrentHashMap<>();
+  private static final ThreadLocal<Context> CONTEXT = ThreadLocal.withInitial(Context::new);
+
+  public static boolean isEnabled() {
+    return PropertyUtils.getBooleanValue(ConfigProperties.RECORD_COMMAND_LATENCY);
+  }
+
+  /**
+   * Tags the commands of the current thread with the test method until {@link #endTest()}. The page is kept, as the setup
+   * methods of the test may have issued commands from a page already.
+   */
+  public static void startTest(String testName) {
+    Context context = CONTEXT.get();
+    context.test = testName;
+    context.series = null;
+  }
+
+  public static void endTest() {
+    Context context = CONTEXT.get();
+    context.test = NONE;
+    context.page = NONE;
+    context.series = null;
+  }
+
+  /**
+   * Tags the commands of the current thread with a page object, called once when the page is created, so the commands that
+   * follow, also those a page issues on the driver directly, count for the page the thread created last.
+   */
+  public static void setPage(String pageName) {
+    Context context = CONTEXT.get();
+    if (!pageName.equals(context.page)) {
+      context.page = pageName;
+      context.series = null;
+    }
+  }
+
+  static void record(String device, String command, long nanos) {
+    CONTEXT.get().record(device, command, nanos);
+  }
+
+  /**
+   * Writes the percentiles of every device, test, page and command to a json file and the overall percentiles of every
+   * command to the report. Does nothing when no command was recorded.
+   */
+  public static void export() {
+    if (COMMANDS.isEmpty()) {
+      return;
+    }
+    List<Map<String, Object>> rows = new ArrayList<>();
+    SERIES.values().forEach(series -> series.commands.forEach((command, histogram) -> {
+      Map<String, Object> row = new LinkedHashMap<>();
+      row.put("device", series.device);
+      row.put("test", series.test);
+      row.put("page", series.page);
+      row.put("command", command);
+      row.putAll(toMap(histogram));
+      rows.add(row);
+    }));
+    Map<String, Object> overall = new TreeMap<>();
+    COMMANDS.forEach((command, histogram) -> overall.put(command, toMap(histogram)));
+    Map<String, Object> document = new LinkedHashMap<>();
+    document.put("commands", overall);
+    document.put("series", rows);
+    File file = new File(FrameworkConstants.getCommandLatencyPath());
+    try {
+      file.getParentFile().mkdirs();
+      new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file, document);
+    } catch (IOException e) {
+      throw new FrameworkException("Unable to write the command latencies to " + file, e);
+    }
+    new TreeMap<>(COMMANDS).forEach((command, histogram) -> ExtentReportManager.addSystemInfo(
+      "Command " + command, String.format("n=%d p50=%.0fms p90=%.0fms p99=%.0fms max=%.0fms", histogram.getCount(),
+                                          histogram.getPercentileMillis(50), histogram.getPercentileMillis(90),
+                                          histogram.getPercentileMillis(99), histogram.getMaxMillis())));
+    ExtentReportManager.addSystemInfo("Command latencies", file.getAbsolutePath());
+    TestUtils.log().info("Command latencies of {} series written to {}", rows.size(), file);
+  }
+
+  private static Map<String, Object> toMap(LatencyHistogram histogram) {
+    Map<String, Object> values = new LinkedHashMap<>();
+    values.put("count", histogram.getCount());
+    values.put("meanMs", round(histogram.getMeanMillis()));
+    for (double percentile : PERCENTILES) {
+      values.put("p" + (int) percentile + "Ms", round(histogram.getPercentileMillis(percentile)));
+    }
+    values.put("maxMs", round(histogram.getMaxMillis()));
+    return values;
+  }
+
+  private static double round(double millis) {
+    return Math.round(millis * 10) / 10.0;
+  }
+
+  private static final class Context {
+
+    private String test = NONE;
+    private String page = NONE;
+    private Series series;
+
+    private void record(String device, String command, long nanos) {
+      if (Objects.isNull(series) || !series.device.equals(device)) {
+        series = SERIES.computeIfAbsent(device + '|' + test + '|' + page, key -> new Series(device, test, page));
+      }
+      long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+      series.getHistogram(command).record(micros);
+      getHistogram(COMMANDS, command).record(micros);
+    }
+  }
+
+  private static final class Series {
+
+    private final String device;
+    private final String test;
+    private final String page;
+    private final Map<String, LatencyHistogram> commands = new ConcurrentHashMap<>();
+
+    private Series(String device, String test, String page) {
+      this.device = device;
+      this.test = test;
+      this.page = page;
+    }
+
+    private LatencyHistogram getHistogram(String command) {
+      return CommandMetrics.getHistogram(commands, command);
+    }
+  }
+
+  private static LatencyHistogram getHistogram(Map<String, LatencyHistogram> histograms, String command) {
+    LatencyHistogram histogram = histograms.get(command);
+    return Objects.nonNull(histogram) ? histogram : histograms.computeIfAbsent(command, key -> new LatencyHistogram());
+  }
+}
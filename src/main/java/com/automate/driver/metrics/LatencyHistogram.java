@@ -0,0 +1,90 @@
+package com.automate.driver.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free log-linear histogram of latencies in microseconds. Every power of two is split into 8 buckets, so a percentile is
+ * off by at most 1/16 of its value. Recording is a few atomic increments and never allocates.
+ */
+final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int LINEAR_LIMIT = SUB_BUCKETS << 1;
+  private static final int BUCKETS = (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKETS + SUB_BUCKETS;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder totalMicros = new LongAdder();
+  private final AtomicLong maxMicros = new AtomicLong();
+
+  void record(long micros) {
+    long value = Math.max(0, micros);
+    buckets.incrementAndGet(getBucket(value));
+    count.increment();
+    totalMicros.add(value);
+    if (value > maxMicros.get()) {
+      maxMicros.accumulateAndGet(value, Math::max);
+    }
+  }
+
+  long getCount() {
+    return count.sum();
+  }
+
+  double getMeanMillis() {
+    long samples = count.sum();
+    return samples == 0 ? 0 : totalMicros.sum() / (double) samples / 1000;
+  }
+
+  double getMaxMillis() {
+    return maxMicros.get() / 1000.0;
+  }
+
+  /**
+   * @param percentile between 0 and 100
+   * @return the middle of the bucket holding the percentile, capped at the maximum recorded value
+   */
+  double getPercentileMillis(double percentile) {
+    long[] snapshot = new long[BUCKETS];
+    long samples = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = buckets.get(i);
+      samples += snapshot[i];
+    }
+    if (samples == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * samples));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += snapshot[i];
+      if (seen >= rank) {
+        long lower = getLowerBound(i);
+        long upper = i + 1 < BUCKETS ? getLowerBound(i + 1) - 1 : Long.MAX_VALUE;
+        return Math.min(lower + (upper - lower) / 2, maxMicros.get()) / 1000.0;
+      }
+    }
+    return getMaxMillis();
+  }
+
+  static int getBucket(long micros) {
+    if (micros < LINEAR_LIMIT) {
+      return (int) micros;
+    }
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(micros);
+    int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket + SUB_BUCKETS;
+  }
+
+  static long getLowerBound(int bucket) {
+    if (bucket < LINEAR_LIMIT) {
+      return bucket;
+    }
+    int exponent = (bucket - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+    long subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+    return (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+  }
+}
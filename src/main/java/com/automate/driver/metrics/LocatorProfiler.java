@@ -0,0 +1,192 @@
+package com.automate.driver.metrics;
+
+import com.automate.constants.FrameworkConstants;
+import com.automate.customexceptions.FrameworkException;
+import com.automate.driver.snapshot.PageSnapshots;
+import com.automate.driver.snapshot.SnapshotMatch;
+import com.automate.enums.ConfigProperties;
+import com.automate.factories.WaitBudget;
+import com.automate.reports.ExtentReportManager;
+import com.automate.utils.TestUtils;
+import com.automate.utils.configloader.PropertyUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.appium.java_client.AppiumDriver;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Lookup latency of every page object field and dynamic locator (see locator_profiling in config.properties), ranked by the
+ * total time spent finding it at the end of the suite. The first time an xpath locator finds its element, the element is
+ * matched in the cached page source and, when it has a resource id or accessibility id no other element has, that locator is
+ * suggested instead. With locator_promotion the suggestion is tried first, without the implicit wait, and the declared
+ * locator only when it misses; a suggestion that misses an element the declared locator then finds is dropped for the rest of
+ * the suite.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LocatorProfiler {
+
+  private static final String XPATH = "xpath";
+  private static final int REPORTED_LOCATORS = 10;
+  private static final Map<String, Locator> LOCATORS = new ConcurrentHashMap<>();
+
+  public static boolean isEnabled() {
+    return PropertyUtils.getBooleanValue(ConfigProperties.LOCATOR_PROFILING) || isPromotionEnabled();
+  }
+
+  public static boolean isPromotionEnabled() {
+    return PropertyUtils.getBooleanValue(ConfigProperties.LOCATOR_PROMOTION);
+  }
+
+  /**
+   * Finds the element by the promoted locator of the key when there is one, else by the declared lookup, and records the time
+   * either took.
+   *
+   * @param key      page object field or dynamic locator, e.g. LoginPage.username
+   * @param strategy strategy of the declared locator, e.g. xpath
+   * @param value    value of the declared locator
+   */
+  public static WebElement find(AppiumDriver driver, String key, String strategy, String value, Supplier<WebElement> declaredLookup) {
+    Locator locator = LOCATORS.get(key);
+    if (Objects.isNull(locator)) {
+      locator = LOCATORS.computeIfAbsent(key, name -> new Locator(strategy, value));
+    }
+    By suggestion = isPromotionEnabled() && !locator.demoted ? locator.suggestion : null;
+    if (Objects.nonNull(suggestion)) {
+      long start = System.nanoTime();
+      try {
+        return WaitBudget.withoutImplicitWait(driver, () -> driver.findElement(suggestion));
+      } catch (NoSuchElementException e) {
+        // absent for now, or not equivalent after all when the declared locator finds the element below
+      } finally {
+        locator.promoted.record(toMicros(System.nanoTime() - start));
+      }
+    }
+    long start = System.nanoTime();
+    WebElement element;
+    try {
+      element = declaredLookup.get();
+    } catch (NoSuchElementException e) {
+      locator.misses.increment();
+      throw e;
+    } finally {
+      locator.declared.record(toMicros(System.nanoTime() - start));
+    }
+    if (Objects.nonNull(suggestion)) {
+      locator.demoted = true;
+      TestUtils.log().info("Dropped the promotion of {} to {}, it missed the element", key, suggestion);
+    }
+    locator.suggest(driver);
+    return element;
+  }
+
+  /**
+   * Writes the profiled locators, slowest in total first, with their suggestions to a json file and the slowest ones to the
+   * report. Does nothing when no lookup was profiled.
+   */
+  public static void export() {
+    if (LOCATORS.isEmpty()) {
+      return;
+    }
+    List<Map.Entry<String, Locator>> ranked = new ArrayList<>(LOCATORS.entrySet());
+    ranked.sort(Comparator.comparingDouble((Map.Entry<String, Locator> entry) -> entry.getValue().getTotalMillis()).reversed());
+    List<Map<String, Object>> rows = new ArrayList<>();
+    ranked.forEach(entry -> rows.add(entry.getValue().toMap(entry.getKey())));
+    File file = new File(FrameworkConstants.getLocatorProfilePath());
+    try {
+      file.getParentFile().mkdirs();
+      new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file, Map.of("locators", rows));
+    } catch (IOException e) {
+      throw new FrameworkException("Unable to write the locator profile to " + file, e);
+    }
+    ranked.stream().limit(REPORTED_LOCATORS).forEach(entry -> ExtentReportManager.addSystemInfo(
+      "Locator " + entry.getKey(), entry.getValue().describe()));
+    ExtentReportManager.addSystemInfo("Locator profile", file.getAbsolutePath());
+    TestUtils.log().info("Lookup times of {} locators written to {}", rows.size(), file);
+  }
+
+  private static long toMicros(long nanos) {
+    return TimeUnit.NANOSECONDS.toMicros(nanos);
+  }
+
+  private static double round(double millis) {
+    return Math.round(millis * 10) / 10.0;
+  }
+
+  private static final class Locator {
+
+    private final String strategy;
+    private final String value;
+    private final LatencyHistogram declared = new LatencyHistogram();
+    private final LatencyHistogram promoted = new LatencyHistogram();
+    private final LongAdder misses = new LongAdder();
+    private final AtomicBoolean suggested;
+    private volatile By suggestion;
+    private volatile boolean demoted;
+
+    private Locator(String strategy, String value) {
+      this.strategy = strategy;
+      this.value = value;
+      this.suggested = new AtomicBoolean(!XPATH.equals(strategy));
+    }
+
+    /**
+     * Looks for a resource id or accessibility id of the xpath's first match once, right after the declared locator found it.
+     */
+    private void suggest(AppiumDriver driver) {
+      if (!suggested.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        suggestion = PageSnapshots.get(driver).findFirst(value).flatMap(SnapshotMatch::getIdLocator).orElse(null);
+      } catch (WebDriverException e) {
+        TestUtils.log().info("No page source to match {} against: {}", value, e.getMessage());
+      }
+    }
+
+    private double getTotalMillis() {
+      return declared.getMeanMillis() * declared.getCount() + promoted.getMeanMillis() * promoted.getCount();
+    }
+
+    private String describe() {
+      String times = String.format("n=%d mean=%.0fms p90=%.0fms total=%.0fms", declared.getCount(), declared.getMeanMillis(),
+                                   declared.getPercentileMillis(90), getTotalMillis());
+      return Objects.isNull(suggestion) ? times : times + " use " + suggestion;
+    }
+
+    private Map<String, Object> toMap(String key) {
+      Map<String, Object> row = new LinkedHashMap<>();
+      row.put("locator", key);
+      row.put("strategy", strategy);
+      row.put("value", value);
+      row.put("totalMs", round(getTotalMillis()));
+      row.put("lookups", declared.getCount());
+      row.put("misses", misses.sum());
+      row.put("meanMs", round(declared.getMeanMillis()));
+      row.put("p90Ms", round(declared.getPercentileMillis(90)));
+      row.put("maxMs", round(declared.getMaxMillis()));
+      row.put("suggestion", Objects.isNull(suggestion) ? null : suggestion.toString());
+      row.put("promotedLookups", promoted.getCount());
+      row.put("promotedMeanMs", round(promoted.getMeanMillis()));
+      row.put("demoted", demoted);
+      return row;
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.automate.driver.metrics;
+
+import io.appium.java_client.MobileCommand;
+import io.appium.java_client.remote.AppiumCommandExecutor;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.http.HttpClient;
+
+import java.net.URL;
+
+/**
+ * Command executor of one session that reports the latency of every command, failed ones included, to {@link CommandMetrics}
+ * under the name of the command (findElement, clickElement, sendKeysToElement, getPageSource, executeScript, actions, ...).
+ */
+public final class TimedCommandExecutor extends AppiumCommandExecutor {
+
+  private final String device;
+
+  public TimedCommandExecutor(URL serverUrl, HttpClient.Factory httpClientFactory, String device) {
+    super(MobileCommand.commandRepository, serverUrl, httpClientFactory);
+    this.device = device;
+  }
+
+  @Override
+  public Response execute(Command command) {
+    long start = System.nanoTime();
+    try {
+      return super.execute(command);
+    } finally {
+      CommandMetrics.record(device, command.getName(), System.nanoTime() - start);
+    }
+  }
+}
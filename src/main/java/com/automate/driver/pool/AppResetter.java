@@ -0,0 +1,67 @@
+package com.automate.driver.pool;
+
+import com.automate.customexceptions.FrameworkException;
+import com.automate.enums.AppResetStrategy;
+import com.automate.enums.ConfigJson;
+import com.automate.enums.MobilePlatformName;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.InteractsWithApps;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+import static com.automate.utils.configloader.JsonUtils.getConfig;
+
+/**
+ * Brings a reused session back to the app's start state before the next test. Web sessions only drop their cookies, the
+ * tests navigate themselves.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class AppResetter {
+
+  static void reset(AppiumDriver driver, MobilePlatformName platform, AppResetStrategy strategy) {
+    if (strategy == AppResetStrategy.NONE) {
+      return;
+    }
+    if (isWeb(platform)) {
+      driver.manage().deleteAllCookies();
+      return;
+    }
+    InteractsWithApps apps = (InteractsWithApps) driver;
+    String appId = getAppId(platform);
+    switch (strategy) {
+      case TERMINATE_ACTIVATE:
+        apps.terminateApp(appId);
+        apps.activateApp(appId);
+        break;
+      case CLEAR_APP_DATA:
+        // mobile: clearApp stops the app before wiping its data
+        driver.executeScript("mobile: clearApp", Map.of(getAppIdArgument(platform), appId));
+        apps.activateApp(appId);
+        break;
+      case DEEP_LINK:
+        String deepLink = getConfig(ConfigJson.START_DEEP_LINK);
+        if (deepLink.isBlank()) {
+          throw new FrameworkException("start_deep_link in config.json is required for the DEEP_LINK app reset strategy");
+        }
+        driver.executeScript("mobile: deepLink",
+                             Map.of("url", deepLink, platform == MobilePlatformName.ANDROID ? "package" : "bundleId", appId));
+        break;
+      default:
+        throw new FrameworkException("App reset strategy " + strategy + " is not supported");
+    }
+  }
+
+  static boolean isWeb(MobilePlatformName platform) {
+    return platform == MobilePlatformName.ANDROID_WEB || platform == MobilePlatformName.IOS_WEB;
+  }
+
+  static String getAppId(MobilePlatformName platform) {
+    return platform == MobilePlatformName.ANDROID ? getConfig(ConfigJson.APP_PACKAGE) : getConfig(ConfigJson.BUNDLE_ID);
+  }
+
+  private static String getAppIdArgument(MobilePlatformName platform) {
+    return platform == MobilePlatformName.ANDROID ? "appId" : "bundleId";
+  }
+}
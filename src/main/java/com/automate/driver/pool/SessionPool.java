@@ -0,0 +1,184 @@
+package com.automate.driver.pool;
+
+import com.automate.driver.factory.DriverFactory;
+import com.automate.enums.AppResetStrategy;
+import com.automate.enums.ConfigProperties;
+import com.automate.enums.MobilePlatformName;
+import com.automate.utils.TestUtils;
+import com.automate.utils.configloader.PropertyUtils;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.InteractsWithApps;
+import io.appium.java_client.appmanagement.ApplicationState;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps one Appium session per device alive across test methods. A released session is parked idle and handed to the next
+ * test on the same device after a health check and an app reset (see app_reset_strategy in config.properties). A session is
+ * only recreated when the health check or the reset fails. Sessions started ahead of time by {@link SessionPrewarmer} are
+ * handed to the first test on their device as they are.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SessionPool {
+
+  private static final Map<String, PooledSession> IDLE_SESSIONS = new ConcurrentHashMap<>();
+  private static final Map<AppiumDriver, PooledSession> LEASED_SESSIONS = new ConcurrentHashMap<>();
+  private static final Map<String, CompletableFuture<AppiumDriver>> PREWARMED_SESSIONS = new ConcurrentHashMap<>();
+
+  /**
+   * @param sessionFactory creates a new session when neither a healthy idle nor a pre-warmed session exists for the device
+   */
+  public static AppiumDriver acquire(MobilePlatformName platform, String udid, String deviceName,
+                                     Supplier<AppiumDriver> sessionFactory) {
+    String key = getKey(platform, udid, deviceName);
+    PooledSession session = IDLE_SESSIONS.remove(key);
+    if (Objects.nonNull(session) && !prepare(session)) {
+      quitQuietly(session);
+      session = null;
+    }
+    if (Objects.isNull(session)) {
+      session = awaitPrewarmed(key, platform);
+    }
+    if (Objects.isNull(session)) {
+      session = new PooledSession(key, platform, sessionFactory.get());
+    }
+    LEASED_SESSIONS.put(session.driver, session);
+    return session.driver;
+  }
+
+  /**
+   * Registers a session that is being started ahead of the first test on the device.
+   */
+  static void offer(MobilePlatformName platform, String udid, String deviceName, CompletableFuture<AppiumDriver> session) {
+    CompletableFuture<AppiumDriver> replaced = PREWARMED_SESSIONS.put(getKey(platform, udid, deviceName), session);
+    if (Objects.nonNull(replaced)) {
+      replaced.thenAccept(SessionPool::quitQuietly);
+    }
+  }
+
+  /**
+   * @return udid or, when the device has none, its name
+   */
+  static String getDevice(String udid, String deviceName) {
+    return Objects.isNull(udid) || udid.isBlank() ? deviceName : udid;
+  }
+
+  private static String getKey(MobilePlatformName platform, String udid, String deviceName) {
+    return platform + ":" + getDevice(udid, deviceName);
+  }
+
+  private static PooledSession awaitPrewarmed(String key, MobilePlatformName platform) {
+    CompletableFuture<AppiumDriver> prewarmed = PREWARMED_SESSIONS.remove(key);
+    if (Objects.isNull(prewarmed)) {
+      return null;
+    }
+    try {
+      return new PooledSession(key, platform, prewarmed.join());
+    } catch (CompletionException e) {
+      TestUtils.log().warn("Pre-warming the session on {} failed, creating a new one", key, e.getCause());
+      return null;
+    }
+  }
+
+  /**
+   * Parks a session acquired from the pool for the next test on its device.
+   *
+   * @return false when the driver does not belong to the pool and has to be quit by the caller
+   */
+  public static boolean release(AppiumDriver driver) {
+    PooledSession session = LEASED_SESSIONS.remove(driver);
+    if (Objects.isNull(session)) {
+      return false;
+    }
+    PooledSession replaced = IDLE_SESSIONS.put(session.key, session);
+    if (Objects.nonNull(replaced)) {
+      quitQuietly(replaced);
+    }
+    return true;
+  }
+
+  /**
+   * Quits every idle, leased and pre-warmed session. Called once at the end of the suite.
+   */
+  public static void quitAll() {
+    PREWARMED_SESSIONS.values().forEach(prewarmed -> prewarmed.thenAccept(SessionPool::quitQuietly));
+    PREWARMED_SESSIONS.clear();
+    List<PooledSession> sessions = new ArrayList<>(IDLE_SESSIONS.values());
+    sessions.addAll(LEASED_SESSIONS.values());
+    IDLE_SESSIONS.clear();
+    LEASED_SESSIONS.clear();
+    sessions.forEach(SessionPool::quitQuietly);
+  }
+
+  private static boolean prepare(PooledSession session) {
+    try {
+      if (!isHealthy(session)) {
+        TestUtils.log().warn("Discarding session {} on {}, the app is no longer installed", session.sessionId(), session.key);
+        return false;
+      }
+      AppResetter.reset(session.driver, session.platform, getResetStrategy());
+      return true;
+    } catch (WebDriverException e) {
+      TestUtils.log().warn("Discarding unhealthy session {} on {}", session.sessionId(), session.key, e);
+      return false;
+    }
+  }
+
+  /**
+   * Round trip to the device through the session: the app state for native apps, the current url for browsers. Fails when
+   * the session, the Appium server or the driver server on the device is gone.
+   */
+  private static boolean isHealthy(PooledSession session) {
+    if (AppResetter.isWeb(session.platform)) {
+      session.driver.getCurrentUrl();
+      return true;
+    }
+    String appId = AppResetter.getAppId(session.platform);
+    return ((InteractsWithApps) session.driver).queryAppState(appId) != ApplicationState.NOT_INSTALLED;
+  }
+
+  private static AppResetStrategy getResetStrategy() {
+    return AppResetStrategy.valueOf(
+      PropertyUtils.getPropertyValue(ConfigProperties.APP_RESET_STRATEGY).trim().toUpperCase(Locale.ROOT));
+  }
+
+  private static void quitQuietly(PooledSession session) {
+    quitQuietly(session.driver);
+  }
+
+  private static void quitQuietly(AppiumDriver driver) {
+    try {
+      DriverFactory.quit(driver);
+    } catch (WebDriverException e) {
+      TestUtils.log().debug("Session {} was already gone", driver.getSessionId(), e);
+    }
+  }
+
+  private static final class PooledSession {
+
+    private final String key;
+    private final MobilePlatformName platform;
+    private final AppiumDriver driver;
+
+    private PooledSession(String key, MobilePlatformName platform, AppiumDriver driver) {
+      this.key = key;
+      this.platform = platform;
+      this.driver = driver;
+    }
+
+    private Object sessionId() {
+      return driver.getSessionId();
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.automate.driver.pool;
+
+import com.automate.driver.device.Device;
+import com.automate.driver.device.DeviceRegistry;
+import com.automate.driver.factory.DriverFactory;
+import com.automate.enums.ConfigProperties;
+import com.automate.reports.ExtentReportManager;
+import com.automate.utils.TestUtils;
+import com.automate.utils.configloader.PropertyUtils;
+import io.appium.java_client.AppiumDriver;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Starts one session for every device of the suite concurrently, before the first test asks for it. The sessions are
+ * registered with the {@link SessionPool}, so the first test on a device only waits for whatever is left of its session
+ * start. The devices are those of {@link DeviceRegistry#getSuiteDevices}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SessionPrewarmer {
+
+  /**
+   * Returns immediately. Does nothing unless both prewarm_sessions and reuse_sessions are enabled.
+   */
+  public static void prewarm(List<Device> devices) {
+    if (!PropertyUtils.getBooleanValue(ConfigProperties.PREWARM_SESSIONS)) {
+      return;
+    }
+    if (!PropertyUtils.getBooleanValue(ConfigProperties.REUSE_SESSIONS)) {
+      TestUtils.log().warn("prewarm_sessions needs reuse_sessions to hand the sessions to the tests, skipping pre-warming");
+      return;
+    }
+    if (devices.isEmpty()) {
+      return;
+    }
+    ExecutorService executor = newExecutor(
+      Math.min(devices.size(), PropertyUtils.getIntValue(ConfigProperties.PREWARM_THREAD_COUNT)));
+    long suiteStart = System.nanoTime();
+    List<CompletableFuture<AppiumDriver>> sessions = new ArrayList<>();
+    for (Device device : devices) {
+      sessions.add(prewarm(device, executor));
+    }
+    executor.shutdown();
+    CompletableFuture.allOf(sessions.toArray(CompletableFuture<?>[]::new)).whenComplete((ignored, failure) -> TestUtils.log()
+      .info("Pre-warmed {} sessions in {} ms", sessions.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - suiteStart)));
+  }
+
+  private static CompletableFuture<AppiumDriver> prewarm(Device device, ExecutorService executor) {
+    long submitted = System.nanoTime();
+    CompletableFuture<AppiumDriver> session = CompletableFuture.supplyAsync(() -> {
+      long started = System.nanoTime();
+      AppiumDriver driver = DriverFactory.createDriver(device.getPlatformName(), device.getDeviceName(), device.getUdid(),
+                                                       device.getPort(), device.getEmulator());
+      reportReadiness(device, started - submitted, System.nanoTime() - started);
+      return driver;
+    }, executor);
+    SessionPool.offer(device.getPlatformName(), device.getUdid(), device.getDeviceName(), session);
+    return session;
+  }
+
+  private static void reportReadiness(Device device, long queuedNanos, long startNanos) {
+    long queuedMillis = TimeUnit.NANOSECONDS.toMillis(queuedNanos);
+    long startMillis = TimeUnit.NANOSECONDS.toMillis(startNanos);
+    TestUtils.log().info("Session on {} ready in {} ms after {} ms in queue", device, startMillis, queuedMillis);
+    ExtentReportManager.addSystemInfo("Session ready - " + device, startMillis + " ms (queued " + queuedMillis + " ms)");
+  }
+
+  private static ExecutorService newExecutor(int threads) {
+    AtomicInteger threadNumber = new AtomicInteger();
+    return Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+      Thread thread = new Thread(runnable, "session-prewarm-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+}
@@ -0,0 +1,72 @@
+package com.automate.driver.port;
+
+import com.automate.customexceptions.FrameworkException;
+import com.automate.enums.ConfigProperties;
+import com.automate.enums.MobilePlatformName;
+import com.automate.enums.PortType;
+import com.automate.utils.configloader.PropertyUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Leases the local ports the Appium drivers forward to the device (systemPort, chromedriverPort, wdaLocalPort and
+ * webkitDebugProxyPort) and the ports of pooled Appium servers from the ranges in config.properties. A port is only handed out
+ * when no one else holds it and it can actually be bound on this host.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PortAllocator {
+
+  private static final Map<PortType, PortRange> RANGES = new ConcurrentHashMap<>();
+
+  public static PortLease lease(PortType type) {
+    return RANGES.computeIfAbsent(type, PortAllocator::createRange).lease();
+  }
+
+  /**
+   * @return the port type the driver of the platform needs, the one Drivers passes the port as
+   */
+  public static PortType getPortType(MobilePlatformName platform) {
+    switch (platform) {
+      case ANDROID:
+        return PortType.SYSTEM_PORT;
+      case ANDROID_WEB:
+        return PortType.CHROMEDRIVER_PORT;
+      case IOS:
+        return PortType.WDA_LOCAL_PORT;
+      case IOS_WEB:
+        return PortType.WEBKIT_DEBUG_PROXY_PORT;
+      default:
+        throw new FrameworkException("Platform name " + platform + " has no port type");
+    }
+  }
+
+  private static PortRange createRange(PortType type) {
+    String range = PropertyUtils.getPropertyValue(getRangeProperty(type)).trim();
+    String[] bounds = range.split("\\s*-\\s*");
+    try {
+      return new PortRange(type, Integer.parseInt(bounds[0]), Integer.parseInt(bounds[bounds.length - 1]));
+    } catch (NumberFormatException e) {
+      throw new FrameworkException("Invalid " + type + " range " + range + ". Expected first-last, e.g. 8400-8499", e);
+    }
+  }
+
+  private static ConfigProperties getRangeProperty(PortType type) {
+    switch (type) {
+      case SYSTEM_PORT:
+        return ConfigProperties.SYSTEM_PORT_RANGE;
+      case CHROMEDRIVER_PORT:
+        return ConfigProperties.CHROMEDRIVER_PORT_RANGE;
+      case WDA_LOCAL_PORT:
+        return ConfigProperties.WDA_LOCAL_PORT_RANGE;
+      case WEBKIT_DEBUG_PROXY_PORT:
+        return ConfigProperties.WEBKIT_DEBUG_PROXY_PORT_RANGE;
+      case APPIUM_SERVER:
+        return ConfigProperties.APPIUM_SERVER_PORT_RANGE;
+      default:
+        throw new FrameworkException("Port type " + type + " has no range");
+    }
+  }
+}
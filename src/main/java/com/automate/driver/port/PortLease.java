@@ -0,0 +1,39 @@
+package com.automate.driver.port;
+
+import com.automate.enums.PortType;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A port handed out by the {@link PortAllocator}. Releasing it more than once has no effect.
+ */
+public final class PortLease {
+
+  private final PortRange range;
+  private final int port;
+  private final AtomicBoolean released = new AtomicBoolean();
+
+  PortLease(PortRange range, int port) {
+    this.range = range;
+    this.port = port;
+  }
+
+  public int getPort() {
+    return port;
+  }
+
+  public PortType getType() {
+    return range.getType();
+  }
+
+  public void release() {
+    if (released.compareAndSet(false, true)) {
+      range.release(port);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return range.getType() + ":" + port;
+  }
+}
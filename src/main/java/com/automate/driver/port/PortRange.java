@@ -0,0 +1,94 @@
+package com.automate.driver.port;
+
+import com.automate.customexceptions.FrameworkException;
+import com.automate.enums.PortType;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Leased ports of one range as a bitset of atomic words, one bit per port. Leasing sets a free bit with a single atomic
+ * update, so concurrent sessions never block each other. Scans start at a rotating word to spread the leases and to avoid
+ * handing a just released port straight out again.
+ */
+final class PortRange {
+
+  private final PortType type;
+  private final int firstPort;
+  private final int size;
+  private final AtomicLongArray leased;
+  private final AtomicInteger nextWord = new AtomicInteger();
+
+  PortRange(PortType type, int firstPort, int lastPort) {
+    if (firstPort < 1 || lastPort > 65535 || lastPort < firstPort) {
+      throw new FrameworkException("Invalid " + type + " range " + firstPort + "-" + lastPort);
+    }
+    this.type = type;
+    this.firstPort = firstPort;
+    this.size = lastPort - firstPort + 1;
+    this.leased = new AtomicLongArray((size + Long.SIZE - 1) / Long.SIZE);
+    int unusedBits = leased.length() * Long.SIZE - size;
+    if (unusedBits > 0) {
+      // Bits past the end of the range stay set, so they are never handed out
+      leased.set(leased.length() - 1, -1L << (Long.SIZE - unusedBits));
+    }
+  }
+
+  PortType getType() {
+    return type;
+  }
+
+  PortLease lease() {
+    int words = leased.length();
+    int startWord = Math.floorMod(nextWord.getAndIncrement(), words);
+    for (int i = 0; i < words; i++) {
+      int word = (startWord + i) % words;
+      long free = ~leased.get(word);
+      while (free != 0) {
+        int bit = Long.numberOfTrailingZeros(free);
+        free &= free - 1;
+        if (mark(word, bit)) {
+          int port = firstPort + word * Long.SIZE + bit;
+          if (isBindable(port)) {
+            return new PortLease(this, port);
+          }
+          clear(word, bit);
+        }
+      }
+    }
+    throw new FrameworkException(
+      "No free " + type + " left in " + firstPort + "-" + (firstPort + size - 1) + ". Please widen the port range");
+  }
+
+  void release(int port) {
+    int index = port - firstPort;
+    clear(index / Long.SIZE, index % Long.SIZE);
+  }
+
+  private boolean mark(int word, int bit) {
+    long mask = 1L << bit;
+    return (leased.getAndUpdate(word, bits -> bits | mask) & mask) == 0;
+  }
+
+  private void clear(int word, int bit) {
+    long mask = 1L << bit;
+    leased.getAndUpdate(word, bits -> bits & ~mask);
+  }
+
+  /**
+   * A port already used by another process on this host (an adb forward of an earlier run, another framework) is skipped.
+   */
+  private static boolean isBindable(int port) {
+    try (ServerSocket socket = new ServerSocket()) {
+      socket.setReuseAddress(false);
+      socket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+      return true;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,169 @@
+package com.automate.driver.server;
+
+import com.automate.constants.FrameworkConstants;
+import com.automate.customexceptions.FrameworkException;
+import com.automate.driver.device.Device;
+import com.automate.driver.port.PortAllocator;
+import com.automate.driver.port.PortLease;
+import com.automate.enums.ConfigProperties;
+import com.automate.enums.PortType;
+import com.automate.utils.TestUtils;
+import com.automate.utils.configloader.PropertyUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.File;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs one Appium server per device (see appium_server_pool in config.properties) instead of sending every session through a
+ * single Node process. The servers listen on ports leased from appium_server_port_range and are started concurrently; every
+ * device is pinned to its own server. A monitor checks /status every appium_server_health_check_interval seconds and restarts
+ * servers whose process died or that stopped answering, on the same port so the pinned url stays valid.
+ * <p>
+ * The command is appium_node_executable appium_main_js followed by the appium server arguments, so any executable serving
+ * /status on the given --port can stand in for Node and Appium.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AppiumServerPool {
+
+  private static final int ALLOWED_FAILED_HEALTH_CHECKS = 2;
+  private static final Map<String, ManagedAppiumServer> SERVERS = new ConcurrentHashMap<>();
+  private static ScheduledExecutorService monitor;
+  private static boolean shutdownHookAdded;
+
+  public static boolean isEnabled() {
+    return PropertyUtils.getBooleanValue(ConfigProperties.APPIUM_SERVER_POOL);
+  }
+
+  /**
+   * Starts a server for every device and waits until all of them are ready. When one fails to start, all are stopped again.
+   */
+  public static synchronized void start(List<Device> devices) {
+    File logsDir = new File(FrameworkConstants.getAppiumServerLogsPath()).getParentFile();
+    List<ManagedAppiumServer> servers = new ArrayList<>();
+    for (Device device : devices) {
+      if (!SERVERS.containsKey(device.getId())) {
+        PortLease lease = PortAllocator.lease(PortType.APPIUM_SERVER);
+        ManagedAppiumServer server = new ManagedAppiumServer(
+          device.toString(), lease, getCommand(lease.getPort()), new File(logsDir, "server-" + lease.getPort() + ".log"));
+        SERVERS.put(device.getId(), server);
+        servers.add(server);
+      }
+    }
+    if (servers.isEmpty()) {
+      return;
+    }
+    long start = System.nanoTime();
+    ExecutorService executor = newExecutor(servers.size());
+    try {
+      CompletableFuture.allOf(servers.stream()
+                                .map(server -> CompletableFuture.runAsync(server::start, executor))
+                                .toArray(CompletableFuture[]::new))
+        .join();
+    } catch (CompletionException e) {
+      shutdown();
+      throw e.getCause() instanceof FrameworkException
+        ? (FrameworkException) e.getCause()
+        : new FrameworkException("Unable to start the appium server pool", e.getCause());
+    } finally {
+      executor.shutdown();
+    }
+    TestUtils.log().info("Started {} appium servers in {} ms: {}", servers.size(),
+                         TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), servers);
+    startMonitor();
+  }
+
+  /**
+   * @return the url of the server the device is pinned to, restarting it first when its process died. null when the pool
+   * has no server for the device.
+   */
+  public static URL getServerUrl(String deviceId) {
+    ManagedAppiumServer server = SERVERS.get(deviceId);
+    if (Objects.isNull(server)) {
+      return null;
+    }
+    server.restartIfUnhealthy(false, ALLOWED_FAILED_HEALTH_CHECKS);
+    return server.getUrl();
+  }
+
+  /**
+   * Stops the monitor and every server started by the pool. Nothing else is touched.
+   */
+  public static synchronized void shutdown() {
+    if (Objects.nonNull(monitor)) {
+      monitor.shutdownNow();
+      monitor = null;
+    }
+    List<ManagedAppiumServer> servers = new ArrayList<>(SERVERS.values());
+    SERVERS.clear();
+    servers.parallelStream().forEach(ManagedAppiumServer::stop);
+  }
+
+  private static void startMonitor() {
+    if (Objects.nonNull(monitor)) {
+      return;
+    }
+    int interval = PropertyUtils.getIntValue(ConfigProperties.APPIUM_SERVER_HEALTH_CHECK_INTERVAL);
+    monitor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "appium-server-monitor");
+      thread.setDaemon(true);
+      return thread;
+    });
+    monitor.scheduleWithFixedDelay(AppiumServerPool::checkServers, interval, interval, TimeUnit.SECONDS);
+    if (!shutdownHookAdded) {
+      Runtime.getRuntime().addShutdownHook(new Thread(AppiumServerPool::shutdown, "appium-server-pool-shutdown"));
+      shutdownHookAdded = true;
+    }
+  }
+
+  private static void checkServers() {
+    for (ManagedAppiumServer server : SERVERS.values()) {
+      try {
+        server.restartIfUnhealthy(true, ALLOWED_FAILED_HEALTH_CHECKS);
+      } catch (RuntimeException e) {
+        TestUtils.log().error("Unable to restart the appium server {}", server, e);
+      }
+    }
+  }
+
+  private static List<String> getCommand(int port) {
+    List<String> command = new ArrayList<>();
+    command.add(getPathOrDefault(ConfigProperties.APPIUM_NODE_EXECUTABLE, FrameworkConstants.NODEJS_PATH));
+    command.add(getPathOrDefault(ConfigProperties.APPIUM_MAIN_JS, FrameworkConstants.APPIUM_JS_PATH));
+    command.add("--address");
+    command.add(FrameworkConstants.APPIUM_SERVER_HOST);
+    command.add("--port");
+    command.add(String.valueOf(port));
+    command.add("--session-override");
+    command.add("--allow-insecure");
+    command.add("*:chromedriver_autodownload");
+    return command;
+  }
+
+  private static String getPathOrDefault(ConfigProperties key, String defaultPath) {
+    String path = PropertyUtils.getPropertyValue(key).trim();
+    return path.isEmpty() ? defaultPath : path;
+  }
+
+  private static ExecutorService newExecutor(int threads) {
+    AtomicInteger threadNumber = new AtomicInteger();
+    return Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "appium-server-start-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+}
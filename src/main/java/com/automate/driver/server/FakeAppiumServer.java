@@ -0,0 +1,233 @@
+package com.automate.driver.server;
+
+import com.automate.constants.FrameworkConstants;
+import com.automate.customexceptions.FrameworkException;
+import com.automate.enums.ConfigProperties;
+import com.automate.utils.TestUtils;
+import com.automate.utils.configloader.PropertyUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process stand-in for an Appium server (see fake_appium_server in config.properties), so whole suites run on a machine
+ * without devices and the overhead of the framework itself can be measured. It speaks enough W3C WebDriver and Appium for
+ * what Drivers, WaitFactory and ScreenActions send: sessions, finding elements (id, accessibility id, xpath, class name and
+ * name, resolved against fake_server_page_source), element state and input, page source, screenshots, mobile: scripts,
+ * actions and screen recording. Other session commands succeed without a value.
+ * <p>
+ * Every command except /status and ending a session waits fake_server_latency plus up to fake_server_latency_jitter
+ * milliseconds, and fake_server_failure_percent of them are answered with an unknown error.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FakeAppiumServer {
+
+  /**
+   * A 1x1 png.
+   */
+  static final String SCREENSHOT = "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAQAAAC1HAwCAAAAC0lEQVR42mNkYAAAAAYAAjCB0C8AAAAASUVORK5CYII=";
+  static final String SCREEN_RECORDING = "";
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final Map<String, FakeSession> SESSIONS = new ConcurrentHashMap<>();
+  private static HttpServer server;
+  private static ExecutorService executor;
+  private static URL url;
+  private static byte[] pageSource;
+  private static int latency;
+  private static int latencyJitter;
+  private static int failurePercent;
+
+  public static boolean isEnabled() {
+    return PropertyUtils.getBooleanValue(ConfigProperties.FAKE_APPIUM_SERVER);
+  }
+
+  /**
+   * Starts the server on a free port unless it is already running.
+   *
+   * @return the base url of the server
+   */
+  public static synchronized URL start() {
+    if (Objects.nonNull(server)) {
+      return url;
+    }
+    File pageSourceFile = new File(FrameworkConstants.TEST_RESOURCES_DIR,
+                                   PropertyUtils.getPropertyValue(ConfigProperties.FAKE_SERVER_PAGE_SOURCE).trim());
+    try {
+      pageSource = Files.readAllBytes(pageSourceFile.toPath());
+      latency = PropertyUtils.getIntValue(ConfigProperties.FAKE_SERVER_LATENCY);
+      latencyJitter = PropertyUtils.getIntValue(ConfigProperties.FAKE_SERVER_LATENCY_JITTER);
+      failurePercent = PropertyUtils.getIntValue(ConfigProperties.FAKE_SERVER_FAILURE_PERCENT);
+      // without TCP_NODELAY every response waits for the delayed ack of the client, about 40 ms per command
+      System.setProperty("sun.net.httpserver.nodelay", "true");
+      server = HttpServer.create(new InetSocketAddress(FrameworkConstants.APPIUM_SERVER_HOST, 0), 0);
+      url = new URL("http", FrameworkConstants.APPIUM_SERVER_HOST, server.getAddress().getPort(), "/");
+    } catch (IOException e) {
+      throw new FrameworkException("Unable to start the fake appium server with the page source " + pageSourceFile, e);
+    }
+    AtomicInteger threadNumber = new AtomicInteger();
+    executor = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "fake-appium-server-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    server.setExecutor(executor);
+    server.createContext("/", FakeAppiumServer::handle);
+    server.start();
+    TestUtils.log().info("Fake appium server listening on {} with {}+{} ms latency and {}% failures", url, latency,
+                         latencyJitter, failurePercent);
+    return url;
+  }
+
+  /**
+   * @return the base url of the server, started first when it is not running
+   */
+  public static URL getUrl() {
+    return start();
+  }
+
+  public static synchronized void stop() {
+    if (Objects.isNull(server)) {
+      return;
+    }
+    server.stop(0);
+    executor.shutdownNow();
+    SESSIONS.clear();
+    server = null;
+  }
+
+  private static void handle(HttpExchange exchange) throws IOException {
+    try {
+      List<String> path = new ArrayList<>(Arrays.asList(exchange.getRequestURI().getPath().split("/")));
+      path.removeIf(String::isEmpty);
+      String method = exchange.getRequestMethod();
+      int status = 200;
+      Object value;
+      try {
+        value = dispatch(method, path, readBody(exchange));
+      } catch (W3CError e) {
+        status = e.status;
+        value = toError(e.error, e.getMessage());
+      } catch (RuntimeException e) {
+        status = 500;
+        value = toError("unknown error", String.valueOf(e));
+      }
+      byte[] response = MAPPER.writeValueAsBytes(Collections.singletonMap("value", value));
+      exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+      exchange.sendResponseHeaders(status, response.length);
+      try (OutputStream body = exchange.getResponseBody()) {
+        body.write(response);
+      }
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private static Object dispatch(String method, List<String> path, Map<String, Object> body) {
+    if (path.equals(List.of("status"))) {
+      return Map.of("ready", true, "message", "The fake appium server is ready to accept new sessions");
+    }
+    if (!path.isEmpty() && "session".equals(path.get(0))) {
+      if (path.size() == 2 && "DELETE".equals(method)) {
+        SESSIONS.remove(path.get(1));
+        return null;
+      }
+      injectLatencyAndFailures();
+      if (path.size() == 1 && "POST".equals(method)) {
+        return newSession(body);
+      }
+      FakeSession session = SESSIONS.get(path.get(1));
+      if (Objects.isNull(session)) {
+        throw new W3CError(404, "invalid session id", "Session " + path.get(1) + " does not exist");
+      }
+      return session.execute(method, path.subList(2, path.size()), body);
+    }
+    throw new W3CError(404, "unknown command", method + " /" + String.join("/", path) + " is not supported");
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> newSession(Map<String, Object> body) {
+    Map<String, Object> requested = (Map<String, Object>) body.getOrDefault("capabilities", Collections.emptyMap());
+    Map<String, Object> capabilities = new LinkedHashMap<>(
+      (Map<String, Object>) requested.getOrDefault("alwaysMatch", Collections.emptyMap()));
+    List<Map<String, Object>> firstMatch =
+      (List<Map<String, Object>>) requested.getOrDefault("firstMatch", Collections.emptyList());
+    if (!firstMatch.isEmpty()) {
+      capabilities.putAll(firstMatch.get(0));
+    }
+    FakeSession session = new FakeSession(capabilities, pageSource);
+    SESSIONS.put(session.getId(), session);
+    Map<String, Object> value = new LinkedHashMap<>();
+    value.put("sessionId", session.getId());
+    value.put("capabilities", session.getCapabilities());
+    return value;
+  }
+
+  private static void injectLatencyAndFailures() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long delay = latency + (latencyJitter > 0 ? random.nextInt(latencyJitter + 1) : 0);
+    if (delay > 0) {
+      try {
+        Thread.sleep(delay);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    if (failurePercent > 0 && random.nextInt(100) < failurePercent) {
+      throw new W3CError(500, "unknown error", "Failure injected by the fake appium server");
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+    try (InputStream body = exchange.getRequestBody()) {
+      byte[] bytes = body.readAllBytes();
+      return bytes.length == 0 ? Collections.emptyMap() : MAPPER.readValue(bytes, Map.class);
+    }
+  }
+
+  private static Map<String, String> toError(String error, String message) {
+    Map<String, String> value = new LinkedHashMap<>();
+    value.put("error", error);
+    value.put("message", message);
+    value.put("stacktrace", "");
+    return value;
+  }
+
+  /**
+   * A W3C error response of the fake server.
+   */
+  static final class W3CError extends FrameworkException {
+
+    private final int status;
+    private final String error;
+
+    W3CError(int status, String error, String message) {
+      super(message);
+      this.status = status;
+      this.error = error;
+    }
+  }
+}
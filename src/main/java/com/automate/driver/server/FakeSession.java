@@ -0,0 +1,310 @@
+package com.automate.driver.server;
+
+import com.automate.customexceptions.FrameworkException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * State of one session of the {@link FakeAppiumServer}: its own copy of the page source, the elements handed out so far and
+ * what the commands changed. Locators are resolved against the page source, typing changes the text of an element and so the
+ * page source, just like on a device.
+ */
+final class FakeSession {
+
+  static final String ELEMENT_KEY = "element-6066-11e4-a52e-4f735466cecf";
+  private static final Pattern BOUNDS = Pattern.compile("\\[(-?\\d+),(-?\\d+)]\\[(-?\\d+),(-?\\d+)]");
+  private static final Pattern KEYS = Pattern.compile("[\\uE000-\\uF8FF]");
+  private static final Map<String, Command> COMMANDS = new HashMap<>();
+  private static final Command NO_VALUE = (session, elementId, body) -> null;
+
+  static {
+    COMMANDS.put("POST element", (session, elementId, body) ->
+      session.toReference(session.findFirst(session.document.getDocumentElement(), body)));
+    COMMANDS.put("POST elements", (session, elementId, body) ->
+      session.toReferences(session.find(session.document.getDocumentElement(), body)));
+    COMMANDS.put("POST element/:id/element", (session, elementId, body) ->
+      session.toReference(session.findFirst(session.getElement(elementId), body)));
+    COMMANDS.put("POST element/:id/elements", (session, elementId, body) ->
+      session.toReferences(session.find(session.getElement(elementId), body)));
+    COMMANDS.put("GET element/active", (session, elementId, body) -> session.toReference(session.document.getDocumentElement()));
+    COMMANDS.put("POST element/:id/clear", (session, elementId, body) -> session.setText(session.getElement(elementId), ""));
+    Command sendKeys = (session, elementId, body) ->
+      session.setText(session.getElement(elementId), getText(session.getElement(elementId)) + getKeys(body));
+    COMMANDS.put("POST element/:id/value", sendKeys);
+    COMMANDS.put("POST appium/element/:id/value", sendKeys);
+    COMMANDS.put("POST appium/element/:id/replace_value", (session, elementId, body) ->
+      session.setText(session.getElement(elementId), getKeys(body)));
+    COMMANDS.put("GET element/:id/text", (session, elementId, body) -> getText(session.getElement(elementId)));
+    COMMANDS.put("GET element/:id/name", (session, elementId, body) -> session.getElement(elementId).getTagName());
+    COMMANDS.put("GET element/:id/displayed", (session, elementId, body) ->
+      !"false".equals(session.getElement(elementId).getAttribute("displayed")));
+    COMMANDS.put("GET element/:id/enabled", (session, elementId, body) ->
+      !"false".equals(session.getElement(elementId).getAttribute("enabled")));
+    COMMANDS.put("GET element/:id/selected", (session, elementId, body) ->
+      "true".equals(session.getElement(elementId).getAttribute("selected")));
+    COMMANDS.put("GET element/:id/rect", (session, elementId, body) -> getRect(session.getElement(elementId)));
+    COMMANDS.put("GET window/rect", (session, elementId, body) -> getRect(session.document.getDocumentElement()));
+    COMMANDS.put("GET source", (session, elementId, body) -> session.getPageSource());
+    COMMANDS.put("GET screenshot", (session, elementId, body) -> FakeAppiumServer.SCREENSHOT);
+    COMMANDS.put("GET element/:id/screenshot", (session, elementId, body) -> FakeAppiumServer.SCREENSHOT);
+    COMMANDS.put("POST appium/start_recording_screen", (session, elementId, body) -> "");
+    COMMANDS.put("POST appium/stop_recording_screen", (session, elementId, body) -> FakeAppiumServer.SCREEN_RECORDING);
+    COMMANDS.put("POST execute/sync", (session, elementId, body) -> executeScript(String.valueOf(body.get("script"))));
+    COMMANDS.put("POST execute/async", (session, elementId, body) -> executeScript(String.valueOf(body.get("script"))));
+    COMMANDS.put("POST url", (session, elementId, body) -> {
+      session.url = String.valueOf(body.get("url"));
+      return null;
+    });
+    COMMANDS.put("GET url", (session, elementId, body) -> session.url);
+    COMMANDS.put("GET title", (session, elementId, body) -> "");
+    COMMANDS.put("GET orientation", (session, elementId, body) -> session.orientation);
+    COMMANDS.put("POST orientation", (session, elementId, body) -> {
+      session.orientation = String.valueOf(body.get("orientation"));
+      return null;
+    });
+  }
+
+  private final String id = UUID.randomUUID().toString();
+  private final Map<String, Object> capabilities;
+  private final Document document;
+  private final XPath xpath = XPathFactory.newInstance().newXPath();
+  private final Map<String, Element> elements = new HashMap<>();
+  private final Map<Element, String> elementIds = new IdentityHashMap<>();
+  private String pageSource;
+  private String url = "";
+  private String orientation = "PORTRAIT";
+
+  FakeSession(Map<String, Object> capabilities, byte[] pageSource) {
+    this.capabilities = capabilities;
+    this.document = parse(pageSource);
+  }
+
+  String getId() {
+    return id;
+  }
+
+  Map<String, Object> getCapabilities() {
+    return capabilities;
+  }
+
+  /**
+   * @param method http method of the command
+   * @param path   path below /session/{id}
+   * @param body   parsed request body, empty for GET and DELETE
+   * @return the value of the W3C response
+   */
+  synchronized Object execute(String method, List<String> path, Map<String, Object> body) {
+    String elementId = null;
+    List<String> route = new ArrayList<>(path);
+    for (int i = 1; i < route.size(); i++) {
+      if ("element".equals(route.get(i - 1)) && !"active".equals(route.get(i))) {
+        elementId = route.get(i);
+        route.set(i, ":id");
+      }
+    }
+    String command = method + " " + String.join("/", route);
+    if (command.startsWith("GET element/:id/attribute/") || command.startsWith("GET element/:id/property/")) {
+      return getAttribute(getElement(elementId), route.get(3));
+    }
+    // clicks, actions, timeouts, app management and the like only need to succeed
+    return COMMANDS.getOrDefault(command, NO_VALUE).execute(this, elementId, body);
+  }
+
+  private List<Element> find(Element context, Map<String, Object> body) {
+    String using = String.valueOf(body.get("using"));
+    String value = String.valueOf(body.get("value"));
+    List<Element> matches = new ArrayList<>();
+    if ("xpath".equals(using)) {
+      try {
+        NodeList nodes = (NodeList) xpath.evaluate(value, context, XPathConstants.NODESET);
+        for (int i = 0; i < nodes.getLength(); i++) {
+          if (nodes.item(i).getNodeType() == Node.ELEMENT_NODE) {
+            matches.add((Element) nodes.item(i));
+          }
+        }
+      } catch (XPathExpressionException e) {
+        throw new FakeAppiumServer.W3CError(400, "invalid selector", "Invalid xpath " + value);
+      }
+    } else {
+      NodeList nodes = context.getElementsByTagName("*");
+      for (int i = 0; i < nodes.getLength(); i++) {
+        Element element = (Element) nodes.item(i);
+        if (matches(element, using, value)) {
+          matches.add(element);
+        }
+      }
+    }
+    return matches;
+  }
+
+  private Element findFirst(Element context, Map<String, Object> body) {
+    List<Element> matches = find(context, body);
+    if (matches.isEmpty()) {
+      throw new FakeAppiumServer.W3CError(404, "no such element",
+                                          "No element matches " + body.get("using") + " " + body.get("value"));
+    }
+    return matches.get(0);
+  }
+
+  private static boolean matches(Element element, String using, String value) {
+    switch (using) {
+      case "id":
+        String resourceId = element.getAttribute("resource-id");
+        return resourceId.equals(value) || resourceId.endsWith(":id/" + value) || element.getAttribute("name").equals(value);
+      case "accessibility id":
+        return element.getAttribute("content-desc").equals(value) || element.getAttribute("name").equals(value);
+      case "class name":
+        return element.getTagName().equals(value);
+      case "name":
+        return element.getAttribute("name").equals(value) || element.getAttribute("text").equals(value);
+      default:
+        throw new FakeAppiumServer.W3CError(400, "invalid selector", "The fake appium server does not support " + using);
+    }
+  }
+
+  private Map<String, String> toReference(Element element) {
+    return Collections.singletonMap(ELEMENT_KEY, elementIds.computeIfAbsent(element, key -> {
+      String elementId = UUID.randomUUID().toString();
+      elements.put(elementId, key);
+      return elementId;
+    }));
+  }
+
+  private List<Map<String, String>> toReferences(List<Element> matches) {
+    List<Map<String, String>> references = new ArrayList<>();
+    matches.forEach(element -> references.add(toReference(element)));
+    return references;
+  }
+
+  private Element getElement(String elementId) {
+    Element element = elements.get(elementId);
+    if (Objects.isNull(element)) {
+      throw new FakeAppiumServer.W3CError(404, "stale element reference", "Unknown element " + elementId);
+    }
+    return element;
+  }
+
+  private static Object getAttribute(Element element, String name) {
+    return element.hasAttribute(name) ? element.getAttribute(name) : null;
+  }
+
+  private static String getText(Element element) {
+    for (String name : new String[] {"text", "label", "value", "name"}) {
+      if (element.hasAttribute(name)) {
+        return element.getAttribute(name);
+      }
+    }
+    return "";
+  }
+
+  private Object setText(Element element, String text) {
+    element.setAttribute(element.hasAttribute("value") ? "value" : "text", text);
+    pageSource = null;
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static String getKeys(Map<String, Object> body) {
+    Object text = body.get("text");
+    if (Objects.isNull(text) && body.get("value") instanceof List) {
+      text = String.join("", (List<String>) body.get("value"));
+    }
+    return KEYS.matcher(String.valueOf(text)).replaceAll("");
+  }
+
+  private static Map<String, Integer> getRect(Element element) {
+    Map<String, Integer> rect = new LinkedHashMap<>();
+    Matcher bounds = BOUNDS.matcher(element.getAttribute("bounds"));
+    if (bounds.matches()) {
+      int x = Integer.parseInt(bounds.group(1));
+      int y = Integer.parseInt(bounds.group(2));
+      rect.put("x", x);
+      rect.put("y", y);
+      rect.put("width", Integer.parseInt(bounds.group(3)) - x);
+      rect.put("height", Integer.parseInt(bounds.group(4)) - y);
+    } else {
+      for (String name : new String[] {"x", "y", "width", "height"}) {
+        rect.put(name, element.hasAttribute(name) ? Integer.parseInt(element.getAttribute(name)) : 0);
+      }
+    }
+    return rect;
+  }
+
+  private static Object executeScript(String script) {
+    switch (script) {
+      case "mobile: terminateApp":
+      case "mobile: isAppInstalled":
+        return true;
+      case "mobile: queryAppState":
+        // running in foreground
+        return 4;
+      case "mobile: isKeyboardShown":
+        return false;
+      default:
+        return script.contains("readyState") ? "complete" : null;
+    }
+  }
+
+  private String getPageSource() {
+    if (Objects.isNull(pageSource)) {
+      try {
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+        StringWriter writer = new StringWriter();
+        transformer.transform(new DOMSource(document), new StreamResult(writer));
+        pageSource = writer.toString();
+      } catch (TransformerException e) {
+        throw new FrameworkException("Unable to serialize the fake page source", e);
+      }
+    }
+    return pageSource;
+  }
+
+  private static Document parse(byte[] pageSource) {
+    try {
+      DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+      factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+      factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+      return factory.newDocumentBuilder().parse(new ByteArrayInputStream(pageSource));
+    } catch (ParserConfigurationException | SAXException | IOException e) {
+      throw new FrameworkException("Unable to parse the page source of the fake appium server", e);
+    }
+  }
+
+  @FunctionalInterface
+  private interface Command {
+
+    Object execute(FakeSession session, String elementId, Map<String, Object> body);
+  }
+}
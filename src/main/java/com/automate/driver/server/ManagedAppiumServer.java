@@ -0,0 +1,143 @@
+package com.automate.driver.server;
+
+import com.automate.constants.FrameworkConstants;
+import com.automate.customexceptions.FrameworkException;
+import com.automate.driver.port.PortLease;
+import com.automate.utils.TestUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One Appium server process started by this framework, listening on a leased port. Only the process started here and its
+ * children are ever stopped.
+ */
+final class ManagedAppiumServer {
+
+  private static final long STOP_TIMEOUT_SECONDS = 10;
+
+  private final String device;
+  private final PortLease lease;
+  private final List<String> command;
+  private final File logFile;
+  private final URL url;
+  private Process process;
+  private int failedHealthChecks;
+
+  ManagedAppiumServer(String device, PortLease lease, List<String> command, File logFile) {
+    this.device = device;
+    this.lease = lease;
+    this.command = command;
+    this.logFile = logFile;
+    try {
+      this.url = new URL("http", FrameworkConstants.APPIUM_SERVER_HOST, lease.getPort(), "/");
+    } catch (MalformedURLException e) {
+      throw new FrameworkException("Invalid appium server port " + lease.getPort(), e);
+    }
+  }
+
+  URL getUrl() {
+    return url;
+  }
+
+  /**
+   * Launches the process and waits until its /status answers.
+   */
+  synchronized void start() {
+    long start = System.nanoTime();
+    try {
+      logFile.getParentFile().mkdirs();
+      process = new ProcessBuilder(command)
+        .redirectErrorStream(true)
+        .redirectOutput(ProcessBuilder.Redirect.appendTo(logFile))
+        .start();
+    } catch (IOException e) {
+      throw new FrameworkException("Unable to start the appium server for " + device + ": " + command, e);
+    }
+    awaitReady();
+    failedHealthChecks = 0;
+    TestUtils.log().info("Appium server for {} ready on {} in {} ms (pid {})", device, url,
+                         TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), process.pid());
+  }
+
+  private void awaitReady() {
+    Duration timeout = Duration.ofSeconds(FrameworkConstants.APPIUM_SERVER_STARTUP_TIMEOUT);
+    if (ServerStatus.awaitReady(url, timeout, process::isAlive)) {
+      return;
+    }
+    if (!process.isAlive()) {
+      throw new FrameworkException("Appium server for " + device + " exited with code " + process.exitValue()
+                                     + " during startup, see " + logFile);
+    }
+    stopProcess();
+    throw new FrameworkException("Appium server for " + device + " not ready on " + url + " within "
+                                   + timeout.getSeconds() + " seconds, see " + logFile);
+  }
+
+  private boolean isAlive() {
+    return Objects.nonNull(process) && process.isAlive();
+  }
+
+  /**
+   * Restarts the server when its process is gone or, with {@code checkStatus}, when /status failed more than
+   * {@code allowedFailures} times in a row. The check and the restart hold the lock of the server together, so callers that
+   * saw the same crash restart it once and none of them stops the process another one just started.
+   *
+   * @return true when the server was restarted
+   */
+  synchronized boolean restartIfUnhealthy(boolean checkStatus, int allowedFailures) {
+    if (isAlive()) {
+      if (!checkStatus) {
+        return false;
+      }
+      failedHealthChecks = ServerStatus.isReady(url) ? 0 : failedHealthChecks + 1;
+      if (failedHealthChecks <= allowedFailures) {
+        return false;
+      }
+    }
+    TestUtils.log().warn("Restarting the appium server for {} on {}, see {}", device, url, logFile);
+    stopProcess();
+    start();
+    return true;
+  }
+
+  /**
+   * Stops the process and releases the port. The server is not started again.
+   */
+  synchronized void stop() {
+    try {
+      stopProcess();
+    } finally {
+      lease.release();
+    }
+  }
+
+  private void stopProcess() {
+    if (Objects.isNull(process)) {
+      return;
+    }
+    process.descendants().forEach(ProcessHandle::destroy);
+    process.destroy();
+    try {
+      if (!process.waitFor(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      process.destroyForcibly();
+    }
+    process = null;
+  }
+
+  @Override
+  public String toString() {
+    return device + "@" + url;
+  }
+}
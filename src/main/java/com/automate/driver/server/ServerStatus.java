@@ -0,0 +1,67 @@
+package com.automate.driver.server;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Readiness of an Appium server, taken from its /status endpoint. A bound port only shows that something listens; /status
+ * answers once the server accepts sessions.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ServerStatus {
+
+  private static final int REQUEST_TIMEOUT_MILLIS = 2000;
+  private static final long FIRST_POLL_DELAY_MILLIS = 50;
+  private static final long MAX_POLL_DELAY_MILLIS = 1000;
+
+  /**
+   * @param serverUrl base url of the server, e.g. http://127.0.0.1:4723/
+   */
+  public static boolean isReady(URL serverUrl) {
+    HttpURLConnection connection = null;
+    try {
+      connection = (HttpURLConnection) new URL(serverUrl, "status").openConnection();
+      connection.setConnectTimeout(REQUEST_TIMEOUT_MILLIS);
+      connection.setReadTimeout(REQUEST_TIMEOUT_MILLIS);
+      return connection.getResponseCode() == HttpURLConnection.HTTP_OK;
+    } catch (IOException e) {
+      return false;
+    } finally {
+      if (Objects.nonNull(connection)) {
+        connection.disconnect();
+      }
+    }
+  }
+
+  /**
+   * Polls /status with an exponential backoff from 50 ms up to 1 s between requests, so a fast server is seen almost
+   * immediately and a slow one is not flooded.
+   *
+   * @param starting polled before every wait; when it turns false (e.g. the server process exited) waiting stops
+   * @return true once the server is ready, false on timeout, when {@code starting} turned false or when interrupted
+   */
+  public static boolean awaitReady(URL serverUrl, Duration timeout, BooleanSupplier starting) {
+    long deadline = System.nanoTime() + timeout.toNanos();
+    long delay = FIRST_POLL_DELAY_MILLIS;
+    while (!isReady(serverUrl)) {
+      if (!starting.getAsBoolean() || System.nanoTime() > deadline) {
+        return false;
+      }
+      try {
+        Thread.sleep(delay);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+      delay = Math.min(delay * 2, MAX_POLL_DELAY_MILLIS);
+    }
+    return true;
+  }
+}
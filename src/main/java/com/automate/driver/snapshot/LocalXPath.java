@@ -0,0 +1,314 @@
+package com.automate.driver.snapshot;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * XPath subset evaluated against a {@link UiTree}: absolute location paths of child (/) and descendant (//) steps with a tag
+ * or * name test, and predicates combining @attr, @attr='value', @attr!='value', contains(@attr, 'value') and
+ * starts-with(@attr, 'value') with and, or and parentheses, or giving a position ([2]). Anything else (other axes and
+ * functions, text(), unions, ...) is not compiled, so the caller can leave those to the server.
+ */
+final class LocalXPath {
+
+  private static final Map<String, Optional<LocalXPath>> COMPILED = new ConcurrentHashMap<>();
+
+  private final List<Step> steps;
+
+  private LocalXPath(List<Step> steps) {
+    this.steps = steps;
+  }
+
+  /**
+   * @return the compiled expression, cached per expression, or empty when it is outside the supported subset
+   */
+  static Optional<LocalXPath> compile(String xpath) {
+    return COMPILED.computeIfAbsent(xpath, expression -> {
+      try {
+        return Optional.of(new LocalXPath(new Parser(expression).parsePath()));
+      } catch (IllegalArgumentException e) {
+        return Optional.empty();
+      }
+    });
+  }
+
+  /**
+   * @return the matching nodes in document order
+   */
+  BitSet evaluate(UiTree tree) {
+    BitSet contexts = new BitSet();
+    contexts.set(UiTree.DOCUMENT);
+    for (Step step : steps) {
+      contexts = step.apply(tree, contexts);
+    }
+    return contexts;
+  }
+
+  @FunctionalInterface
+  private interface Condition {
+
+    boolean test(UiTree tree, int node);
+  }
+
+  private static final class Step {
+
+    private final boolean descendant;
+    private final String tag;
+    private final List<Object> predicates;
+
+    private Step(boolean descendant, String tag, List<Object> predicates) {
+      this.descendant = descendant;
+      this.tag = tag;
+      this.predicates = predicates;
+    }
+
+    private BitSet apply(UiTree tree, BitSet contexts) {
+      BitSet result = new BitSet();
+      BitSet parents = new BitSet();
+      for (int context = contexts.nextSetBit(0); context >= 0; context = contexts.nextSetBit(context + 1)) {
+        int end = descendant ? tree.getSubtreeEnd(context) : context + 1;
+        for (int parent = context; parent < end; parent++) {
+          if (!parents.get(parent)) {
+            parents.set(parent);
+            selectChildren(tree, parent, result);
+          }
+        }
+      }
+      return result;
+    }
+
+    private void selectChildren(UiTree tree, int parent, BitSet result) {
+      List<Integer> nodes = new ArrayList<>();
+      for (int child = tree.getFirstChild(parent); child != UiTree.NONE; child = tree.getNextSibling(child)) {
+        if (Objects.isNull(tag) || tag.equals(tree.getTag(child))) {
+          nodes.add(child);
+        }
+      }
+      for (Object predicate : predicates) {
+        nodes = filter(tree, nodes, predicate);
+      }
+      nodes.forEach(result::set);
+    }
+
+    private static List<Integer> filter(UiTree tree, List<Integer> nodes, Object predicate) {
+      if (predicate instanceof Integer) {
+        int position = (Integer) predicate;
+        return position <= nodes.size() ? List.of(nodes.get(position - 1)) : List.of();
+      }
+      List<Integer> filtered = new ArrayList<>();
+      for (int node : nodes) {
+        if (((Condition) predicate).test(tree, node)) {
+          filtered.add(node);
+        }
+      }
+      return filtered;
+    }
+  }
+
+  /**
+   * Recursive descent parser of the supported subset, throwing IllegalArgumentException for anything outside of it.
+   */
+  private static final class Parser {
+
+    private final String expression;
+    private int position;
+
+    private Parser(String expression) {
+      this.expression = expression.trim();
+    }
+
+    private List<Step> parsePath() {
+      List<Step> steps = new ArrayList<>();
+      do {
+        expect('/');
+        boolean descendant = accept('/');
+        steps.add(new Step(descendant, parseNameTest(), parsePredicates()));
+      } while (position < expression.length());
+      return steps;
+    }
+
+    private String parseNameTest() {
+      if (accept('*')) {
+        return null;
+      }
+      String name = parseName();
+      // . and .. (abbreviated steps) would otherwise pass for names, which start with a letter or _
+      boolean abbreviatedStep = !Character.isLetter(name.charAt(0)) && name.charAt(0) != '_';
+      if (abbreviatedStep || peek() == '(' || "node".equals(name) || name.contains("::")) {
+        throw new IllegalArgumentException("Unsupported step " + name);
+      }
+      return name;
+    }
+
+    private List<Object> parsePredicates() {
+      List<Object> predicates = new ArrayList<>();
+      while (accept('[')) {
+        skipSpaces();
+        predicates.add(Character.isDigit(peek()) ? parsePosition() : parseOr());
+        skipSpaces();
+        expect(']');
+      }
+      return predicates;
+    }
+
+    private Integer parsePosition() {
+      int start = position;
+      while (Character.isDigit(peek())) {
+        position++;
+      }
+      int value = Integer.parseInt(expression.substring(start, position));
+      if (value < 1) {
+        throw new IllegalArgumentException("Unsupported position " + value);
+      }
+      return value;
+    }
+
+    private Condition parseOr() {
+      Condition condition = parseAnd();
+      while (acceptKeyword("or")) {
+        Condition left = condition;
+        Condition right = parseAnd();
+        condition = (tree, node) -> left.test(tree, node) || right.test(tree, node);
+      }
+      return condition;
+    }
+
+    private Condition parseAnd() {
+      Condition condition = parseTest();
+      while (acceptKeyword("and")) {
+        Condition left = condition;
+        Condition right = parseTest();
+        condition = (tree, node) -> left.test(tree, node) && right.test(tree, node);
+      }
+      return condition;
+    }
+
+    private Condition parseTest() {
+      skipSpaces();
+      if (accept('(')) {
+        Condition condition = parseOr();
+        skipSpaces();
+        expect(')');
+        return condition;
+      }
+      if (accept('@')) {
+        return parseComparison(parseName());
+      }
+      String function = parseName();
+      if ("contains".equals(function)) {
+        return parseFunction(String::contains);
+      }
+      if ("starts-with".equals(function)) {
+        return parseFunction(String::startsWith);
+      }
+      throw new IllegalArgumentException("Unsupported function " + function);
+    }
+
+    private Condition parseComparison(String attribute) {
+      skipSpaces();
+      boolean negated = accept('!');
+      if (!negated && !accept('=')) {
+        return (tree, node) -> Objects.nonNull(tree.getAttribute(node, attribute));
+      }
+      if (negated) {
+        expect('=');
+      }
+      String literal = parseLiteral();
+      return negated
+        ? (tree, node) -> Objects.nonNull(tree.getAttribute(node, attribute)) && !literal.equals(tree.getAttribute(node, attribute))
+        : (tree, node) -> literal.equals(tree.getAttribute(node, attribute));
+    }
+
+    private Condition parseFunction(StringMatcher matcher) {
+      skipSpaces();
+      expect('(');
+      skipSpaces();
+      expect('@');
+      String attribute = parseName();
+      skipSpaces();
+      expect(',');
+      String literal = parseLiteral();
+      skipSpaces();
+      expect(')');
+      return (tree, node) -> {
+        String value = tree.getAttribute(node, attribute);
+        return Objects.nonNull(value) && matcher.matches(value, literal);
+      };
+    }
+
+    private String parseLiteral() {
+      skipSpaces();
+      char quote = peek();
+      if (quote != '\'' && quote != '"') {
+        throw new IllegalArgumentException("Expected a string literal at " + position);
+      }
+      int end = expression.indexOf(quote, position + 1);
+      if (end < 0) {
+        throw new IllegalArgumentException("Unterminated string literal at " + position);
+      }
+      String literal = expression.substring(position + 1, end);
+      position = end + 1;
+      return literal;
+    }
+
+    private String parseName() {
+      int start = position;
+      while (position < expression.length() && isNameChar(expression.charAt(position))) {
+        position++;
+      }
+      if (start == position) {
+        throw new IllegalArgumentException("Expected a name at " + start);
+      }
+      return expression.substring(start, position);
+    }
+
+    private boolean acceptKeyword(String keyword) {
+      skipSpaces();
+      int end = position + keyword.length();
+      if (expression.startsWith(keyword, position) && end < expression.length() && !isNameChar(expression.charAt(end))) {
+        position = end;
+        return true;
+      }
+      return false;
+    }
+
+    private static boolean isNameChar(char character) {
+      return Character.isLetterOrDigit(character) || character == '.' || character == '_' || character == '-' || character == ':';
+    }
+
+    private void skipSpaces() {
+      while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+        position++;
+      }
+    }
+
+    private char peek() {
+      return position < expression.length() ? expression.charAt(position) : 0;
+    }
+
+    private boolean accept(char character) {
+      if (peek() == character) {
+        position++;
+        return true;
+      }
+      return false;
+    }
+
+    private void expect(char character) {
+      if (!accept(character)) {
+        throw new IllegalArgumentException("Expected '" + character + "' at " + position);
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface StringMatcher {
+
+    boolean matches(String value, String literal);
+  }
+}
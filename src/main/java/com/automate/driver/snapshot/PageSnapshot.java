@@ -0,0 +1,144 @@
+package com.automate.driver.snapshot;
+
+import com.automate.customexceptions.FrameworkException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Parsed page source of one screen: the element hierarchy as a {@link UiTree} for local XPath lookups and an inverted index
+ * from the values of the text, content-desc and resource-id attributes (name, label and value on iOS) to the number of
+ * elements carrying them.
+ */
+public final class PageSnapshot {
+
+  /**
+   * Attributes whose values are indexed, Android first and then XCUITest.
+   */
+  static final List<String> INDEXED_ATTRIBUTES = List.of("text", "content-desc", "resource-id", "name", "label", "value");
+  private static final List<String> TEXT_ATTRIBUTES = List.of("text", "content-desc", "name", "label", "value");
+  private static final ThreadLocal<XMLInputFactory> XML_INPUT_FACTORY = ThreadLocal.withInitial(PageSnapshot::createInputFactory);
+
+  private final UiTree tree;
+  private final Map<String, Map<String, Integer>> index;
+  private final long createdNanos;
+
+  private PageSnapshot(UiTree tree, Map<String, Map<String, Integer>> index) {
+    this.tree = tree;
+    this.index = index;
+    this.createdNanos = System.nanoTime();
+  }
+
+  /**
+   * Builds the tree and the index in one streaming pass, without a DOM.
+   */
+  public static PageSnapshot parse(String pageSource) {
+    UiTree tree = new UiTree();
+    Map<String, Map<String, Integer>> index = new HashMap<>();
+    INDEXED_ATTRIBUTES.forEach(attribute -> index.put(attribute, new HashMap<>()));
+    try {
+      XMLStreamReader reader = XML_INPUT_FACTORY.get().createXMLStreamReader(new StringReader(pageSource));
+      try {
+        int parent = UiTree.DOCUMENT;
+        while (reader.hasNext()) {
+          int event = reader.next();
+          if (event == XMLStreamConstants.START_ELEMENT) {
+            parent = tree.addNode(reader.getLocalName(), parent);
+            addAttributes(reader, tree, index);
+          } else if (event == XMLStreamConstants.END_ELEMENT) {
+            parent = tree.getParent(parent);
+          }
+        }
+      } finally {
+        reader.close();
+      }
+    } catch (XMLStreamException e) {
+      throw new FrameworkException("Unable to parse the page source", e);
+    }
+    return new PageSnapshot(tree, index);
+  }
+
+  private static void addAttributes(XMLStreamReader reader, UiTree tree, Map<String, Map<String, Integer>> index) {
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      String name = reader.getAttributeLocalName(i);
+      String value = reader.getAttributeValue(i);
+      tree.addAttribute(name, value);
+      Map<String, Integer> values = index.get(name);
+      if (Objects.nonNull(values) && !value.isEmpty()) {
+        values.merge(value, 1, Integer::sum);
+      }
+    }
+  }
+
+  /**
+   * Evaluates the XPath locally, see {@link LocalXPath} for the supported subset.
+   *
+   * @return the first match in document order, the element the server would return; empty when there is none or the
+   *   expression is outside the subset
+   */
+  public Optional<SnapshotMatch> findFirst(String xpath) {
+    return LocalXPath.compile(xpath)
+      .map(expression -> expression.evaluate(tree).nextSetBit(0))
+      .filter(node -> node >= 0)
+      .map(node -> SnapshotMatch.of(this, tree, node));
+  }
+
+  /**
+   * @return true if an element has exactly this value for the attribute, one of {@link #INDEXED_ATTRIBUTES}
+   */
+  public boolean hasValue(String attribute, String value) {
+    return index.getOrDefault(attribute, Collections.emptyMap()).containsKey(value);
+  }
+
+  /**
+   * @return the number of elements with exactly this value for the attribute, one of {@link #INDEXED_ATTRIBUTES}
+   */
+  public int count(String attribute, String value) {
+    return index.getOrDefault(attribute, Collections.emptyMap()).getOrDefault(value, 0);
+  }
+
+  /**
+   * @return true if the text, content-desc, name, label or value of an element equals or contains the text; an exact match
+   *   is a single lookup per attribute
+   */
+  public boolean containsText(String text) {
+    for (String attribute : TEXT_ATTRIBUTES) {
+      if (hasValue(attribute, text)) {
+        return true;
+      }
+    }
+    for (String attribute : TEXT_ATTRIBUTES) {
+      for (String value : index.get(attribute).keySet()) {
+        if (value.contains(text)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  long getAgeMillis() {
+    return (System.nanoTime() - createdNanos) / 1_000_000;
+  }
+
+  UiTree getTree() {
+    return tree;
+  }
+
+  private static XMLInputFactory createInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+    return factory;
+  }
+}
@@ -0,0 +1,46 @@
+package com.automate.driver.snapshot;
+
+import com.automate.enums.ConfigProperties;
+import com.automate.utils.configloader.PropertyUtils;
+import io.appium.java_client.AppiumDriver;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Page source snapshot of each session, fetched once per screen: any request that may change the screen (clicks, keys,
+ * gestures, orientation, navigation, scripts, ...) drops it, see the snapshot filter of the appium transport. As a screen can
+ * also change on its own, a snapshot older than page_source_cache_max_age milliseconds is fetched again.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PageSnapshots {
+
+  private static final Map<String, PageSnapshot> SNAPSHOTS = new ConcurrentHashMap<>();
+
+  /**
+   * @return the cached snapshot of the driver's session, or a new one when there is none, it is too old or
+   *   page_source_cache is disabled
+   */
+  public static PageSnapshot get(AppiumDriver driver) {
+    String sessionId = String.valueOf(driver.getSessionId());
+    PageSnapshot snapshot = SNAPSHOTS.get(sessionId);
+    if (Objects.nonNull(snapshot) && snapshot.getAgeMillis() < PropertyUtils.getIntValue(ConfigProperties.PAGE_SOURCE_CACHE_MAX_AGE)) {
+      return snapshot;
+    }
+    snapshot = PageSnapshot.parse(driver.getPageSource());
+    if (PropertyUtils.getBooleanValue(ConfigProperties.PAGE_SOURCE_CACHE)) {
+      SNAPSHOTS.put(sessionId, snapshot);
+    }
+    return snapshot;
+  }
+
+  /**
+   * Drops the snapshot of the session after a request that may have changed its screen.
+   */
+  public static void invalidate(String sessionId) {
+    SNAPSHOTS.remove(sessionId);
+  }
+}
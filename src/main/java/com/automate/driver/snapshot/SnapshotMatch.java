@@ -0,0 +1,110 @@
+package com.automate.driver.snapshot;
+
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Point;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Element of a {@link PageSnapshot} matched locally, with the fastest locator that finds exactly this element on the server
+ * and the center of its bounds.
+ */
+public final class SnapshotMatch {
+
+  private static final Pattern ANDROID_BOUNDS = Pattern.compile("\\[(-?\\d+),(-?\\d+)]\\[(-?\\d+),(-?\\d+)]");
+
+  private final By idLocator;
+  private final By fastLocator;
+  private final Point center;
+
+  private SnapshotMatch(By idLocator, By fastLocator, Point center) {
+    this.idLocator = idLocator;
+    this.fastLocator = fastLocator;
+    this.center = center;
+  }
+
+  static SnapshotMatch of(PageSnapshot snapshot, UiTree tree, int node) {
+    By idLocator = getIdLocator(snapshot, tree, node);
+    By fastLocator = Objects.nonNull(idLocator) ? idLocator : getTextLocator(snapshot, tree, node);
+    return new SnapshotMatch(idLocator, fastLocator, getCenter(tree, node));
+  }
+
+  /**
+   * @return a locator by resource id or accessibility id (content-desc on Android, name on iOS) whose value no other element
+   *   of the snapshot has, empty when the element has none
+   */
+  public Optional<By> getIdLocator() {
+    return Optional.ofNullable(idLocator);
+  }
+
+  /**
+   * @return a locator by resource id, accessibility id (content-desc on Android, name on iOS), UiSelector text (Android) or
+   *   label predicate (iOS) whose value no other element of the snapshot has, empty when the element has none
+   */
+  public Optional<By> getFastLocator() {
+    return Optional.ofNullable(fastLocator);
+  }
+
+  /**
+   * @return the center of the element's bounds, empty when the source does not give them
+   */
+  public Optional<Point> getCenter() {
+    return Optional.ofNullable(center);
+  }
+
+  private static By getIdLocator(PageSnapshot snapshot, UiTree tree, int node) {
+    String value = getUniqueValue(snapshot, tree, node, "resource-id");
+    if (Objects.nonNull(value)) {
+      return By.id(value);
+    }
+    value = getUniqueValue(snapshot, tree, node, "content-desc");
+    if (Objects.isNull(value)) {
+      value = getUniqueValue(snapshot, tree, node, "name");
+    }
+    return Objects.isNull(value) ? null : AppiumBy.accessibilityId(value);
+  }
+
+  private static By getTextLocator(PageSnapshot snapshot, UiTree tree, int node) {
+    String value = getUniqueValue(snapshot, tree, node, "text");
+    if (Objects.nonNull(value)) {
+      return AppiumBy.androidUIAutomator("new UiSelector().text(" + quote(value) + ")");
+    }
+    value = getUniqueValue(snapshot, tree, node, "label");
+    return Objects.isNull(value) ? null : AppiumBy.iOSNsPredicateString("label == " + quote(value));
+  }
+
+  private static String getUniqueValue(PageSnapshot snapshot, UiTree tree, int node, String attribute) {
+    String value = tree.getAttribute(node, attribute);
+    return Objects.nonNull(value) && snapshot.count(attribute, value) == 1 ? value : null;
+  }
+
+  private static String quote(String value) {
+    return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+  }
+
+  private static Point getCenter(UiTree tree, int node) {
+    String bounds = tree.getAttribute(node, "bounds");
+    if (Objects.nonNull(bounds)) {
+      Matcher matcher = ANDROID_BOUNDS.matcher(bounds);
+      return matcher.matches()
+        ? new Point((parse(matcher.group(1)) + parse(matcher.group(3))) / 2, (parse(matcher.group(2)) + parse(matcher.group(4))) / 2)
+        : null;
+    }
+    String x = tree.getAttribute(node, "x");
+    String y = tree.getAttribute(node, "y");
+    String width = tree.getAttribute(node, "width");
+    String height = tree.getAttribute(node, "height");
+    if (Objects.isNull(x) || Objects.isNull(y) || Objects.isNull(width) || Objects.isNull(height)) {
+      return null;
+    }
+    return new Point(parse(x) + parse(width) / 2, parse(y) + parse(height) / 2);
+  }
+
+  private static int parse(String number) {
+    return Integer.parseInt(number);
+  }
+}
@@ -0,0 +1,124 @@
+package com.automate.driver.snapshot;
+
+import java.util.Arrays;
+
+/**
+ * Element hierarchy of a page source in flat arrays. Node 0 is the document, the elements follow in document order, so a
+ * node index also orders matches the way the server returns them. The attributes of node n are the entries from
+ * attributeStart[n] to attributeStart[n + 1] of attributeNames and attributeValues.
+ */
+final class UiTree {
+
+  static final int NONE = -1;
+  static final int DOCUMENT = 0;
+
+  private String[] tags = new String[64];
+  private int[] parents = new int[64];
+  private int[] firstChildren = new int[64];
+  private int[] nextSiblings = new int[64];
+  private int[] lastChildren = new int[64];
+  private int[] attributeStart = new int[65];
+  private String[] attributeNames = new String[256];
+  private String[] attributeValues = new String[256];
+  private int size;
+  private int attributes;
+
+  UiTree() {
+    addNode("", NONE);
+  }
+
+  /**
+   * Appends the next element in document order.
+   *
+   * @return its index
+   */
+  int addNode(String tag, int parent) {
+    if (size == tags.length) {
+      grow();
+    }
+    int node = size++;
+    tags[node] = tag;
+    parents[node] = parent;
+    firstChildren[node] = NONE;
+    nextSiblings[node] = NONE;
+    lastChildren[node] = NONE;
+    attributeStart[node] = attributes;
+    attributeStart[node + 1] = attributes;
+    if (parent != NONE) {
+      if (lastChildren[parent] == NONE) {
+        firstChildren[parent] = node;
+      } else {
+        nextSiblings[lastChildren[parent]] = node;
+      }
+      lastChildren[parent] = node;
+    }
+    return node;
+  }
+
+  /**
+   * Adds an attribute to the node added last.
+   */
+  void addAttribute(String name, String value) {
+    if (attributes == attributeNames.length) {
+      attributeNames = Arrays.copyOf(attributeNames, attributes * 2);
+      attributeValues = Arrays.copyOf(attributeValues, attributes * 2);
+    }
+    attributeNames[attributes] = name;
+    attributeValues[attributes] = value;
+    attributeStart[size] = ++attributes;
+  }
+
+  int size() {
+    return size;
+  }
+
+  String getTag(int node) {
+    return tags[node];
+  }
+
+  int getParent(int node) {
+    return parents[node];
+  }
+
+  int getFirstChild(int node) {
+    return firstChildren[node];
+  }
+
+  int getNextSibling(int node) {
+    return nextSiblings[node];
+  }
+
+  /**
+   * @return the value of the attribute, null when the node does not have it
+   */
+  String getAttribute(int node, String name) {
+    for (int i = attributeStart[node]; i < attributeStart[node + 1]; i++) {
+      if (attributeNames[i].equals(name)) {
+        return attributeValues[i];
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the index after the last descendant of the node, its descendants being the nodes in between
+   */
+  int getSubtreeEnd(int node) {
+    for (int current = node; current != NONE; current = parents[current]) {
+      if (nextSiblings[current] != NONE) {
+        return nextSiblings[current];
+      }
+    }
+    return size;
+  }
+
+  private void grow() {
+    int capacity = tags.length * 2;
+    tags = Arrays.copyOf(tags, capacity);
+    parents = Arrays.copyOf(parents, capacity);
+    firstChildren = Arrays.copyOf(firstChildren, capacity);
+    nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+    lastChildren = Arrays.copyOf(lastChildren, capacity);
+    attributeStart = Arrays.copyOf(attributeStart, capacity + 1);
+  }
+}
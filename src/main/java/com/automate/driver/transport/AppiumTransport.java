@@ -0,0 +1,83 @@
+package com.automate.driver.transport;
+
+import com.automate.enums.CommandClass;
+import com.automate.enums.ConfigProperties;
+import com.automate.utils.TestUtils;
+import com.automate.utils.configloader.PropertyUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpClient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HTTP transport of the Appium sessions. Sessions on the same server share one client with keep-alive connections instead
+ * of opening their own. Read timeouts are set per {@link CommandClass} in config.properties, responses are optionally gzip
+ * compressed, the round trip time of every request is recorded and requests that may change the screen drop the cached page
+ * source of their session.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AppiumTransport {
+
+  private static final Map<URI, CommandRoutingHttpClient> CLIENTS = new ConcurrentHashMap<>();
+  private static final LatencyFilter LATENCY_FILTER = new LatencyFilter();
+  private static final Filter SNAPSHOT_FILTER = new SnapshotFilter();
+  private static final HttpClient.Factory CLIENT_FACTORY = new HttpClient.Factory() {
+    @Override
+    public HttpClient createClient(ClientConfig config) {
+      return CLIENTS.computeIfAbsent(config.baseUri(), AppiumTransport::createClient);
+    }
+  };
+
+  /**
+   * @return the factory to pass to the AndroidDriver and IOSDriver constructors
+   */
+  public static HttpClient.Factory getClientFactory() {
+    return CLIENT_FACTORY;
+  }
+
+  private static CommandRoutingHttpClient createClient(URI serverUri) {
+    HttpClient.Factory defaultFactory = HttpClient.Factory.createDefault();
+    Filter filter = PropertyUtils.getBooleanValue(ConfigProperties.HTTP_RESPONSE_COMPRESSION)
+      ? LATENCY_FILTER.andThen(SNAPSHOT_FILTER).andThen(new GzipFilter())
+      : LATENCY_FILTER.andThen(SNAPSHOT_FILTER);
+    Duration connectTimeout = Duration.ofSeconds(PropertyUtils.getIntValue(ConfigProperties.HTTP_CONNECT_TIMEOUT));
+    Map<CommandClass, HttpClient> clients = new EnumMap<>(CommandClass.class);
+    for (CommandClass commandClass : CommandClass.values()) {
+      clients.put(commandClass, defaultFactory.createClient(ClientConfig.defaultConfig()
+                                                              .baseUri(serverUri)
+                                                              .connectionTimeout(connectTimeout)
+                                                              .readTimeout(getReadTimeout(commandClass))
+                                                              .withFilter(filter)));
+    }
+    return new CommandRoutingHttpClient(clients);
+  }
+
+  private static Duration getReadTimeout(CommandClass commandClass) {
+    switch (commandClass) {
+      case NEW_SESSION:
+        return Duration.ofSeconds(PropertyUtils.getIntValue(ConfigProperties.HTTP_NEW_SESSION_READ_TIMEOUT));
+      case SLOW:
+        return Duration.ofSeconds(PropertyUtils.getIntValue(ConfigProperties.HTTP_SLOW_COMMAND_READ_TIMEOUT));
+      default:
+        return Duration.ofSeconds(PropertyUtils.getIntValue(ConfigProperties.HTTP_READ_TIMEOUT));
+    }
+  }
+
+  /**
+   * Logs the request latencies and closes the shared clients. Called once at the end of the suite, after all sessions quit.
+   */
+  public static void shutdown() {
+    if (!CLIENTS.isEmpty()) {
+      TestUtils.log().info("Appium request latencies:{}", LATENCY_FILTER.summary());
+    }
+    CLIENTS.values().forEach(CommandRoutingHttpClient::closeClients);
+    CLIENTS.clear();
+  }
+}
@@ -0,0 +1,28 @@
+package com.automate.driver.transport;
+
+import com.automate.enums.CommandClass;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+
+/**
+ * Sorts WebDriver requests by how long the server may legitimately take to answer: session creation (app install and
+ * launch), slow commands (screenshots, page source, scripts and mobile: extensions, Appium app and device commands) and
+ * everything else (find, click, send keys, ...).
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class CommandClassifier {
+
+  static CommandClass classify(HttpRequest request) {
+    String path = request.getUri();
+    if (request.getMethod() == HttpMethod.POST && path.endsWith("/session")) {
+      return CommandClass.NEW_SESSION;
+    }
+    if (path.contains("/appium/") || path.endsWith("/screenshot") || path.endsWith("/source")
+      || path.endsWith("/execute/sync") || path.endsWith("/execute/async")) {
+      return CommandClass.SLOW;
+    }
+    return CommandClass.DEFAULT;
+  }
+}
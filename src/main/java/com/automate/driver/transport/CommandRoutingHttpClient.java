@@ -0,0 +1,43 @@
+package com.automate.driver.transport;
+
+import com.automate.enums.CommandClass;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+
+import java.util.Map;
+
+/**
+ * Client for one Appium server, shared by all sessions on it. Each request goes to the underlying client of its
+ * {@link CommandClass}, which carries the read timeout of that class and keeps its connections alive across sessions.
+ * Sessions close their client on quit, so closing is a no-op here and the underlying clients are closed by
+ * {@link AppiumTransport#shutdown()}.
+ */
+final class CommandRoutingHttpClient implements HttpClient {
+
+  private final Map<CommandClass, HttpClient> clients;
+
+  CommandRoutingHttpClient(Map<CommandClass, HttpClient> clients) {
+    this.clients = clients;
+  }
+
+  @Override
+  public HttpResponse execute(HttpRequest request) {
+    return clients.get(CommandClassifier.classify(request)).execute(request);
+  }
+
+  @Override
+  public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+    return clients.get(CommandClass.DEFAULT).openSocket(request, listener);
+  }
+
+  @Override
+  public void close() {
+    // Shared across sessions, see AppiumTransport#shutdown
+  }
+
+  void closeClients() {
+    clients.values().forEach(HttpClient::close);
+  }
+}
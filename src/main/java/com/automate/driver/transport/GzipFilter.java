@@ -0,0 +1,43 @@
+package com.automate.driver.transport;
+
+import com.automate.customexceptions.FrameworkException;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Asks the server for gzip compressed responses and inflates them. Pays off for page source and screenshot responses when
+ * the server is remote. Servers without compression answer uncompressed and are passed through.
+ */
+final class GzipFilter implements Filter {
+
+  private static final String GZIP = "gzip";
+
+  @Override
+  public HttpHandler apply(HttpHandler next) {
+    return request -> {
+      request.setHeader("Accept-Encoding", GZIP);
+      HttpResponse response = next.execute(request);
+      if (GZIP.equalsIgnoreCase(response.getHeader("Content-Encoding"))) {
+        response.setContent(Contents.bytes(inflate(Contents.bytes(response.getContent()))));
+        response.removeHeader("Content-Encoding");
+        response.removeHeader("Content-Length");
+      }
+      return response;
+    };
+  }
+
+  private static byte[] inflate(byte[] compressed) {
+    try (InputStream inflater = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      return inflater.readAllBytes();
+    } catch (IOException e) {
+      throw new FrameworkException("Unable to inflate the gzip response of the Appium server", e);
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.automate.driver.transport;
+
+import com.automate.enums.CommandClass;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpHandler;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the round trip time of every request per {@link CommandClass}, including failed requests.
+ */
+final class LatencyFilter implements Filter {
+
+  private final Map<CommandClass, Latency> latencies = new EnumMap<>(CommandClass.class);
+
+  LatencyFilter() {
+    for (CommandClass commandClass : CommandClass.values()) {
+      latencies.put(commandClass, new Latency());
+    }
+  }
+
+  @Override
+  public HttpHandler apply(HttpHandler next) {
+    return request -> {
+      long start = System.nanoTime();
+      try {
+        return next.execute(request);
+      } finally {
+        latencies.get(CommandClassifier.classify(request)).record(System.nanoTime() - start);
+      }
+    };
+  }
+
+  /**
+   * @return one line per command class that saw requests: count, mean and max in milliseconds
+   */
+  String summary() {
+    StringBuilder summary = new StringBuilder();
+    latencies.forEach((commandClass, latency) -> {
+      long count = latency.count.sum();
+      if (count > 0) {
+        summary.append(String.format("%n%-11s requests=%d mean=%.1fms max=%.1fms", commandClass, count,
+                                     latency.totalNanos.sum() / (double) count / TimeUnit.MILLISECONDS.toNanos(1),
+                                     latency.maxNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1)));
+      }
+    });
+    return summary.toString();
+  }
+
+  private static final class Latency {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    private void record(long nanos) {
+      count.increment();
+      totalNanos.add(nanos);
+      maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package com.automate.driver.transport;
+
+import com.automate.driver.snapshot.PageSnapshots;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+
+/**
+ * Drops the page source snapshot of a session after every request that may change its screen, which is everything but GET
+ * requests, element lookups and timeout settings. Ending the session drops the snapshot as well.
+ */
+final class SnapshotFilter implements Filter {
+
+  private static final String SESSION = "/session/";
+
+  @Override
+  public HttpHandler apply(HttpHandler next) {
+    return request -> {
+      try {
+        return next.execute(request);
+      } finally {
+        if (mayChangeScreen(request)) {
+          invalidate(request.getUri());
+        }
+      }
+    };
+  }
+
+  private static boolean mayChangeScreen(HttpRequest request) {
+    String path = request.getUri();
+    return request.getMethod() != HttpMethod.GET && !path.endsWith("/element") && !path.endsWith("/elements")
+      && !path.endsWith("/timeouts");
+  }
+
+  private static void invalidate(String path) {
+    int start = path.indexOf(SESSION);
+    if (start >= 0) {
+      start += SESSION.length();
+      int end = path.indexOf('/', start);
+      PageSnapshots.invalidate(end < 0 ? path.substring(start) : path.substring(start, end));
+    }
+  }
+}
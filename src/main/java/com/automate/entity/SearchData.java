@@ -1,11 +1,18 @@
 package com.automate.entity;
 
+import com.automate.customannotations.DataColumn;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder(setterPrefix = "set")
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class SearchData {
 
+  @DataColumn("searchTerm")
   private String searchText;
 }
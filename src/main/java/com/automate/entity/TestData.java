@@ -1,12 +1,20 @@
 package com.automate.entity;
 
+import com.automate.customannotations.DataEntity;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder(setterPrefix = "set")
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class TestData {
 
+  @DataEntity
   private LoginData loginData;
+  @DataEntity
   private SearchData searchData;
 }
@@ -0,0 +1,5 @@
+package com.automate.enums;
+
+public enum AppResetStrategy {
+  NONE, TERMINATE_ACTIVATE, CLEAR_APP_DATA, DEEP_LINK
+}
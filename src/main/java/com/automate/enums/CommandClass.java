@@ -0,0 +1,5 @@
+package com.automate.enums;
+
+public enum CommandClass {
+  NEW_SESSION, SLOW, DEFAULT
+}
@@ -2,6 +2,6 @@ package com.automate.enums;
 
 public enum ConfigJson {
   APP_ACTIVITY, APP_PACKAGE, APPIUM_URL, AVD_LAUNCH_TIMEOUT,
-  BUNDLE_ID,
+  BUNDLE_ID, START_DEEP_LINK,
   URL
 }
@@ -1,8 +1,17 @@
 package com.automate.enums;
 
 public enum ConfigProperties {
-  RECORD_SCREEN, START_APPIUM_SERVER,
+  RECORD_SCREEN, START_APPIUM_SERVER, APPIUM_SERVER_POOL, APPIUM_NODE_EXECUTABLE, APPIUM_MAIN_JS, APPIUM_SERVER_PORT_RANGE,
+  APPIUM_SERVER_HEALTH_CHECK_INTERVAL,
   OVERRIDE_REPORTS, PASSED_STEP_SCREENSHOTS, FAILED_STEP_SCREENSHOTS, SKIPPED_STEP_SCREENSHOTS,
   RETRY_FAILED_TESTS, RETRY_COUNT,
-  OVERRIDE_SERVER_LOG
+  OVERRIDE_SERVER_LOG, REUSE_SESSIONS, APP_RESET_STRATEGY, PREWARM_SESSIONS, PREWARM_THREAD_COUNT,
+  DYNAMIC_DEVICE_ALLOCATION, DEVICE_SOURCE, DEVICE_LIST_COMMAND, DEVICES_FILE,
+  SYSTEM_PORT_RANGE, CHROMEDRIVER_PORT_RANGE, WDA_LOCAL_PORT_RANGE, WEBKIT_DEBUG_PROXY_PORT_RANGE,
+  CAPABILITY_FILES, HTTP_CONNECT_TIMEOUT, HTTP_READ_TIMEOUT, HTTP_SLOW_COMMAND_READ_TIMEOUT, HTTP_NEW_SESSION_READ_TIMEOUT,
+  HTTP_RESPONSE_COMPRESSION, RECORD_COMMAND_LATENCY,
+  FAKE_APPIUM_SERVER, FAKE_SERVER_PAGE_SOURCE, FAKE_SERVER_LATENCY, FAKE_SERVER_LATENCY_JITTER, FAKE_SERVER_FAILURE_PERCENT,
+  ADAPTIVE_WAIT_POLLING, PAGE_SOURCE_CACHE, PAGE_SOURCE_CACHE_MAX_AGE, LOCAL_XPATH,
+  LOCATOR_PROFILING, LOCATOR_PROMOTION,
+  TEST_DATA_FILE, LAZY_DATA_PROVIDER, TEST_DATA_CACHE
 }
@@ -0,0 +1,5 @@
+package com.automate.enums;
+
+public enum DeviceSource {
+  ADB, FILE
+}
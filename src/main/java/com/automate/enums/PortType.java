@@ -0,0 +1,5 @@
+package com.automate.enums;
+
+public enum PortType {
+  SYSTEM_PORT, CHROMEDRIVER_PORT, WDA_LOCAL_PORT, WEBKIT_DEBUG_PROXY_PORT, APPIUM_SERVER
+}
@@ -0,0 +1,129 @@
+package com.automate.factories;
+
+import com.automate.constants.FrameworkConstants;
+import com.automate.enums.ConfigProperties;
+import com.automate.enums.WaitStrategy;
+import com.automate.utils.configloader.PropertyUtils;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.SessionId;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Explicit wait of one session. Instead of polling every 500 ms it keeps an exponentially weighted estimate of how long each
+ * locator takes to get ready under each wait strategy, and polls around it: the gaps shrink to 50 ms as the estimate comes
+ * near and grow again up to 500 ms once it has passed. Without an estimate the polls start at 50 ms and back off the same
+ * way. With adaptive_wait_polling disabled the wait polls every 500 ms like a WebDriverWait.
+ */
+final class AdaptiveWait {
+
+  private static final long MIN_POLL_MILLIS = 50;
+  private static final long MAX_POLL_MILLIS = 500;
+  private static final double SMOOTHING = 0.3;
+  private static final Map<String, Double> READY_MILLIS = new ConcurrentHashMap<>();
+  private static final Map<SessionId, AdaptiveWait> WAITS = new ConcurrentHashMap<>();
+
+  private final WebDriver driver;
+  private final SessionId sessionId;
+  private final Duration timeout;
+
+  private AdaptiveWait(WebDriver driver, SessionId sessionId, Duration timeout) {
+    this.driver = driver;
+    this.sessionId = sessionId;
+    this.timeout = timeout;
+  }
+
+  /**
+   * @return the wait of the driver's session, created on first use
+   */
+  static AdaptiveWait of(WebDriver driver, SessionId sessionId) {
+    return WAITS.computeIfAbsent(sessionId, id -> new AdaptiveWait(driver, id, Duration.ofSeconds(FrameworkConstants.EXPLICIT_WAIT)));
+  }
+
+  static void release(SessionId sessionId) {
+    WAITS.remove(sessionId);
+  }
+
+  /**
+   * Evaluates the condition, with the implicit wait switched off, until it returns a value other than null or false,
+   * ignoring {@link NotFoundException} like a WebDriverWait.
+   *
+   * @param expectation what is waited for, such as a {@link WaitStrategy}, the key of the learned estimate together with the
+   *                    locator
+   * @throws TimeoutException when the condition is not met within {@link FrameworkConstants#EXPLICIT_WAIT} seconds or by the
+   *                          end of the current {@link WaitBudget} step
+   */
+  <T> T until(String expectation, String locator, Function<WebDriver, T> condition) {
+    return WaitBudget.withoutImplicitWait(driver, sessionId, () -> poll(expectation + " " + locator, condition));
+  }
+
+  private <T> T poll(String key, Function<WebDriver, T> condition) {
+    boolean adaptive = PropertyUtils.getBooleanValue(ConfigProperties.ADAPTIVE_WAIT_POLLING);
+    Double estimate = READY_MILLIS.get(key);
+    long start = System.nanoTime();
+    long deadline = WaitBudget.getDeadline(start, timeout);
+    int polls = 0;
+    RuntimeException lastError = null;
+    try {
+      while (true) {
+        polls++;
+        try {
+          T value = condition.apply(driver);
+          if (isReady(value)) {
+            learn(key, toMillis(System.nanoTime() - start));
+            return value;
+          }
+        } catch (NotFoundException e) {
+          lastError = e;
+        }
+        long now = System.nanoTime();
+        if (now - deadline >= 0) {
+          throw new TimeoutException("Expected condition failed: waiting for " + key + " (tried for " + toMillis(now - start)
+                                       + " ms with " + polls + " polls)", lastError);
+        }
+        long delay = adaptive ? getAdaptiveDelay(toMillis(now - start), estimate) : MAX_POLL_MILLIS;
+        sleep(Math.min(delay, toMillis(deadline - now) + 1));
+      }
+    } finally {
+      WaitTimes.record(key, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Half the distance to the estimated ready time, kept between 50 and 500 ms: fast polls around the estimate, a geometric
+   * backoff after it.
+   */
+  private static long getAdaptiveDelay(long elapsedMillis, Double estimate) {
+    double expected = Objects.isNull(estimate) ? 0 : estimate;
+    long delay = (long) (Math.abs(expected - elapsedMillis) / 2);
+    return Math.max(MIN_POLL_MILLIS, Math.min(MAX_POLL_MILLIS, delay));
+  }
+
+  private static void learn(String key, long readyMillis) {
+    READY_MILLIS.merge(key, (double) readyMillis, (estimate, observed) -> estimate + SMOOTHING * (observed - estimate));
+  }
+
+  private static boolean isReady(Object value) {
+    return Objects.nonNull(value) && !Boolean.FALSE.equals(value);
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new TimeoutException("Interrupted while waiting", e);
+    }
+  }
+
+  private static long toMillis(long nanos) {
+    return TimeUnit.NANOSECONDS.toMillis(nanos);
+  }
+}
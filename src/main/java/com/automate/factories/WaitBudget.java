@@ -0,0 +1,98 @@
+package com.automate.factories;
+
+import com.automate.constants.FrameworkConstants;
+import io.appium.java_client.AppiumDriver;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.SessionId;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Owns the implicit wait of each session and the deadline of the step the current thread runs. Explicit waits switch the
+ * implicit wait off while they poll, so a poll for a missing element returns at once instead of blocking for the implicit
+ * wait, and all the waits of a step end at the same deadline.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WaitBudget {
+
+  private static final Map<SessionId, Duration> IMPLICIT_WAITS = new ConcurrentHashMap<>();
+  private static final ThreadLocal<Long> STEP_DEADLINE = new ThreadLocal<>();
+  private static final ThreadLocal<int[]> IMPLICIT_WAIT_OFF_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+  /**
+   * Sets the implicit wait of the session, restored after every explicit wait.
+   */
+  public static void setImplicitWait(AppiumDriver driver, Duration timeout) {
+    driver.manage().timeouts().implicitlyWait(timeout);
+    IMPLICIT_WAITS.put(driver.getSessionId(), timeout);
+  }
+
+  /**
+   * Starts a step of {@link FrameworkConstants#EXPLICIT_WAIT} seconds, the explicit waits until it is closed share its
+   * deadline. A step started within another one keeps the deadline of the outer step.
+   */
+  public static Step startStep() {
+    if (Objects.nonNull(STEP_DEADLINE.get())) {
+      return () -> { };
+    }
+    STEP_DEADLINE.set(System.nanoTime() + Duration.ofSeconds(FrameworkConstants.EXPLICIT_WAIT).toNanos());
+    return STEP_DEADLINE::remove;
+  }
+
+  /**
+   * @return the deadline, in {@link System#nanoTime()}, of a wait started at the given time: the end of its own timeout or
+   *   of the current step, whichever comes first
+   */
+  static long getDeadline(long start, Duration timeout) {
+    long deadline = start + timeout.toNanos();
+    Long stepDeadline = STEP_DEADLINE.get();
+    return Objects.nonNull(stepDeadline) && stepDeadline - deadline < 0 ? stepDeadline : deadline;
+  }
+
+  /**
+   * Runs the action with the implicit wait of the driver's session switched off.
+   */
+  public static <T> T withoutImplicitWait(AppiumDriver driver, Supplier<T> action) {
+    return withoutImplicitWait(driver, driver.getSessionId(), action);
+  }
+
+  /**
+   * Runs the action with the implicit wait of the session switched off. Within an action that already runs without it, e.g. a
+   * lookup polled by an explicit wait, the implicit wait is left off, so it is restored only once the outermost action ends.
+   */
+  static <T> T withoutImplicitWait(WebDriver driver, SessionId sessionId, Supplier<T> action) {
+    Duration implicitWait = IMPLICIT_WAITS.getOrDefault(sessionId, Duration.ZERO);
+    int[] depth = IMPLICIT_WAIT_OFF_DEPTH.get();
+    if (implicitWait.isZero() || depth[0] > 0) {
+      return action.get();
+    }
+    driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+    depth[0]++;
+    try {
+      return action.get();
+    } finally {
+      depth[0]--;
+      driver.manage().timeouts().implicitlyWait(implicitWait);
+    }
+  }
+
+  static void release(SessionId sessionId) {
+    IMPLICIT_WAITS.remove(sessionId);
+  }
+
+  /**
+   * Step started with {@link #startStep()}, to be closed with try-with-resources.
+   */
+  @FunctionalInterface
+  public interface Step extends AutoCloseable {
+
+    @Override
+    void close();
+  }
+}
@@ -1,16 +1,18 @@
 package com.automate.factories;
 
-import com.automate.constants.FrameworkConstants;
 import com.automate.driver.manager.DriverManager;
 import com.automate.enums.WaitStrategy;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.openqa.selenium.By;
+import org.openqa.selenium.remote.SessionId;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.StaleElementReferenceException;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openqa.selenium.TimeoutException;
 
 import java.util.EnumMap;
 import java.util.Map;
@@ -24,39 +26,36 @@ import static com.automate.enums.WaitStrategy.VISIBLE;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class WaitFactory {
 
+  private static final String LOCATOR_SEPARATOR = "-> ";
+  private static final String ABSENT = "ABSENT";
+
   private static final Map<WaitStrategy, Function<WebElement, WebElement>> WAIT_FOR_ELEMENT_FUNCTION_MAP =
     new EnumMap<>(WaitStrategy.class);
 
   private static final Function<WebElement, WebElement> CLICKABLE_ELEMENT = mobileElement ->
-    new org.openqa.selenium.support.ui.WebDriverWait(DriverManager.getDriver(), java.time.Duration.ofSeconds(FrameworkConstants.EXPLICIT_WAIT))
-      .until(ExpectedConditions.elementToBeClickable(mobileElement));
+    until(CLICKABLE, mobileElement, ExpectedConditions.elementToBeClickable(mobileElement));
   private static final Function<WebElement, WebElement> VISIBILITY_OF_ELEMENT = mobileElement ->
-    new org.openqa.selenium.support.ui.WebDriverWait(DriverManager.getDriver(), java.time.Duration.ofSeconds(FrameworkConstants.EXPLICIT_WAIT))
-      .until(ExpectedConditions.visibilityOf(mobileElement));
+    until(VISIBLE, mobileElement, ExpectedConditions.visibilityOf(mobileElement));
   private static final Function<WebElement, WebElement> PRESENCE_OF_ELEMENT = mobileElement ->
-    new org.openqa.selenium.support.ui.WebDriverWait(DriverManager.getDriver(), java.time.Duration.ofSeconds(FrameworkConstants.EXPLICIT_WAIT))
-      .until(driver -> {
-        try {
-          mobileElement.getLocation();
-          return mobileElement;
-        } catch (NoSuchElementException | StaleElementReferenceException e) {
-          return null;
-        }
-      });
+    until(PRESENCE, mobileElement, driver -> {
+      try {
+        mobileElement.getLocation();
+        return mobileElement;
+      } catch (NoSuchElementException | StaleElementReferenceException e) {
+        return null;
+      }
+    });
   private static final Function<WebElement, WebElement> NO_MATCH = mobileElement -> mobileElement;
 
   private static final Map<WaitStrategy, Function<By, WebElement>> WAIT_FOR_ELEMENT_LOCATED_BY_FUNCTION_MAP =
     new EnumMap<>(WaitStrategy.class);
 
   private static final Function<By, WebElement> CLICKABLE_ELEMENT_BY = by ->
-    new org.openqa.selenium.support.ui.WebDriverWait(DriverManager.getDriver(), java.time.Duration.ofSeconds(FrameworkConstants.EXPLICIT_WAIT))
-      .until(ExpectedConditions.elementToBeClickable(by));
+    until(CLICKABLE, by.toString(), ExpectedConditions.elementToBeClickable(by));
   private static final Function<By, WebElement> PRESENCE_OF_ELEMENT_BY = by ->
-    new org.openqa.selenium.support.ui.WebDriverWait(DriverManager.getDriver(), java.time.Duration.ofSeconds(FrameworkConstants.EXPLICIT_WAIT))
-      .until(ExpectedConditions.presenceOfElementLocated(by));
+    until(PRESENCE, by.toString(), ExpectedConditions.presenceOfElementLocated(by));
   private static final Function<By, WebElement> VISIBILITY_OF_ELEMENT_BY = by ->
-    new org.openqa.selenium.support.ui.WebDriverWait(DriverManager.getDriver(), java.time.Duration.ofSeconds(FrameworkConstants.EXPLICIT_WAIT))
-      .until(ExpectedConditions.visibilityOfElementLocated(by));
+    until(VISIBLE, by.toString(), ExpectedConditions.visibilityOfElementLocated(by));
   private static final Function<By, WebElement> NO_MATCH_BY = by -> DriverManager.getDriver().findElement(by);
 
   static {
@@ -77,4 +76,49 @@ public final class WaitFactory {
   public static WebElement explicitlyWaitForElement(WaitStrategy waitStrategy, WebElement mobileElement) {
     return WAIT_FOR_ELEMENT_FUNCTION_MAP.get(waitStrategy).apply(mobileElement);
   }
+
+  /**
+   * Fast negative check: polls, without the implicit wait, until the element is gone or hidden.
+   *
+   * @return true as soon as the element is not found or not displayed, false if it is still displayed at the end of the
+   *   explicit wait or of the current {@link WaitBudget} step
+   */
+  public static boolean isElementAbsent(WebElement mobileElement) {
+    try {
+      return until(ABSENT, describe(mobileElement), ExpectedConditions.invisibilityOf(mobileElement));
+    } catch (TimeoutException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Drops the reused wait and the implicit wait of a session that is quit.
+   */
+  public static void release(SessionId sessionId) {
+    AdaptiveWait.release(sessionId);
+    WaitBudget.release(sessionId);
+  }
+
+  private static <T> T until(WaitStrategy waitStrategy, WebElement mobileElement, Function<WebDriver, T> condition) {
+    return until(waitStrategy.name(), describe(mobileElement), condition);
+  }
+
+  private static <T> T until(WaitStrategy waitStrategy, String locator, Function<WebDriver, T> condition) {
+    return until(waitStrategy.name(), locator, condition);
+  }
+
+  private static <T> T until(String expectation, String locator, Function<WebDriver, T> condition) {
+    AppiumDriver driver = DriverManager.getDriver();
+    return AdaptiveWait.of(driver, driver.getSessionId()).until(expectation, locator, condition);
+  }
+
+  /**
+   * Page factory proxies print as "Proxy element for: DefaultElementLocator 'By.xxx: value'" and found elements as
+   * "[... -> xxx: value]", the locator is the part that stays the same between runs.
+   */
+  private static String describe(WebElement mobileElement) {
+    String description = String.valueOf(mobileElement);
+    int locatorStart = description.lastIndexOf(LOCATOR_SEPARATOR);
+    return locatorStart < 0 ? description : description.substring(locatorStart + LOCATOR_SEPARATOR.length());
+  }
 }
@@ -0,0 +1,51 @@
+package com.automate.factories;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time the explicit waits of the current thread took since the end of its last test, so the waits of setup methods count
+ * towards the test they prepare.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WaitTimes {
+
+  private static final ThreadLocal<Totals> TOTALS = ThreadLocal.withInitial(Totals::new);
+
+  static void record(String key, long nanos) {
+    Totals totals = TOTALS.get();
+    totals.count++;
+    totals.nanos += nanos;
+    if (nanos > totals.longestNanos) {
+      totals.longestNanos = nanos;
+      totals.longestKey = key;
+    }
+  }
+
+  /**
+   * Resets the totals of the current thread.
+   *
+   * @return a summary of the waits since the last call, empty when there were none
+   */
+  public static Optional<String> endTest() {
+    Totals totals = TOTALS.get();
+    TOTALS.remove();
+    if (totals.count == 0) {
+      return Optional.empty();
+    }
+    return Optional.of(String.format("Explicit waits: %d took %d ms, longest %d ms for %s", totals.count,
+                                     TimeUnit.NANOSECONDS.toMillis(totals.nanos),
+                                     TimeUnit.NANOSECONDS.toMillis(totals.longestNanos), totals.longestKey));
+  }
+
+  private static final class Totals {
+
+    private int count;
+    private long nanos;
+    private long longestNanos = -1;
+    private String longestKey;
+  }
+}
@@ -1,5 +1,7 @@
 package com.automate.listeners;
 
+import com.automate.enums.ConfigProperties;
+import com.automate.utils.configloader.PropertyUtils;
 import com.automate.utils.dataprovider.DataProviderUtils;
 import org.testng.IAnnotationTransformer;
 import org.testng.annotations.ITestAnnotation;
@@ -11,7 +13,9 @@ public class AnnotationTransformer implements IAnnotationTransformer {
 
   @Override
   public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
-    annotation.setDataProvider("getData");
+    annotation.setDataProvider(PropertyUtils.getBooleanValue(ConfigProperties.LAZY_DATA_PROVIDER)
+                                 ? DataProviderUtils.LAZY_DATA_PROVIDER
+                                 : DataProviderUtils.EAGER_DATA_PROVIDER);
     annotation.setDataProviderClass(DataProviderUtils.class);
     annotation.setRetryAnalyzer(Retry.class);
   }
@@ -0,0 +1,133 @@
+package com.automate.listeners;
+
+import com.automate.customexceptions.FrameworkException;
+import com.automate.driver.device.DeviceRegistry;
+import com.automate.enums.ConfigProperties;
+import com.automate.utils.TestUtils;
+import com.automate.utils.configloader.PropertyUtils;
+import org.testng.IAlterSuiteListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlPackage;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * With dynamic_device_allocation enabled, replaces the per-device {@code <test>} tags of the suite by one copy per discovered
+ * device, each holding every class once, and runs the copies in parallel. The device parameters of the replaced tests are
+ * dropped, BaseTest.setUp leases the device instead, on whichever device the DeviceAllocator hands to the thread of the copy.
+ * <p>
+ * TestNG creates the test class instances per {@code <test>} and runs a copy on a single thread, so the fields a test sets in
+ * its configuration methods, like the pages it creates, never reach the session of another thread. Each copy runs every
+ * n-th method of the suite, see {@link #intercept}, so each method still runs once.
+ */
+public class DeviceSuiteListener implements IAlterSuiteListener, IMethodInterceptor {
+
+  private static final String DEVICE_POOL_TEST_NAME = "Device pool ";
+  private static final String SLOT_PARAMETER = "devicePoolSlot";
+  private static final String SLOT_COUNT_PARAMETER = "devicePoolSlots";
+
+  @Override
+  public void alter(List<XmlSuite> suites) {
+    if (!PropertyUtils.getBooleanValue(ConfigProperties.DYNAMIC_DEVICE_ALLOCATION)) {
+      return;
+    }
+    int deviceCount = DeviceRegistry.getDevices().size();
+    if (deviceCount == 0) {
+      throw new FrameworkException("No devices found for dynamic device allocation. Please check device_source");
+    }
+    suites.forEach(suite -> alter(suite, deviceCount));
+  }
+
+  private static void alter(XmlSuite suite, int deviceCount) {
+    Map<String, XmlClass> classes = new LinkedHashMap<>();
+    Map<String, XmlPackage> packages = new LinkedHashMap<>();
+    for (XmlTest test : suite.getTests()) {
+      test.getXmlClasses().forEach(xmlClass -> classes.putIfAbsent(xmlClass.getName(), xmlClass));
+      test.getXmlPackages().forEach(xmlPackage -> packages.putIfAbsent(xmlPackage.getName(), xmlPackage));
+    }
+    suite.getTests().clear();
+
+    for (int slot = 0; slot < deviceCount; slot++) {
+      XmlTest devicePool = new XmlTest(suite);
+      devicePool.setName(DEVICE_POOL_TEST_NAME + (slot + 1));
+      Map<String, String> parameters = new HashMap<>();
+      parameters.put(SLOT_PARAMETER, String.valueOf(slot));
+      parameters.put(SLOT_COUNT_PARAMETER, String.valueOf(deviceCount));
+      devicePool.setParameters(parameters);
+      List<XmlClass> copies = new ArrayList<>();
+      classes.values().forEach(xmlClass -> copies.add(copyOf(xmlClass, devicePool)));
+      devicePool.setXmlClasses(copies);
+      devicePool.setXmlPackages(new ArrayList<>(packages.values()));
+    }
+    suite.setParallel(XmlSuite.ParallelMode.TESTS);
+    suite.setThreadCount(deviceCount);
+  }
+
+  private static XmlClass copyOf(XmlClass xmlClass, XmlTest test) {
+    XmlClass copy = new XmlClass(xmlClass.getName(), false);
+    copy.setIncludedMethods(xmlClass.getIncludedMethods());
+    copy.setExcludedMethods(xmlClass.getExcludedMethods());
+    copy.setXmlTest(test);
+    return copy;
+  }
+
+  /**
+   * Keeps the methods of the device pool copy: every copy sees the same methods in the same order and takes every n-th of
+   * them. The methods of a class that depend on other methods of it stay together on one copy; when a method depends on
+   * groups or on methods of other classes, the first copy runs the whole suite. Tests that are no copy are left alone.
+   */
+  @Override
+  public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+    Map<String, String> parameters = context.getCurrentXmlTest().getLocalParameters();
+    if (!parameters.containsKey(SLOT_PARAMETER)) {
+      return methods;
+    }
+    int slot = Integer.parseInt(parameters.get(SLOT_PARAMETER));
+    int slotCount = Integer.parseInt(parameters.get(SLOT_COUNT_PARAMETER));
+    Set<String> dependentClasses = new HashSet<>();
+    for (IMethodInstance instance : methods) {
+      ITestNGMethod method = instance.getMethod();
+      String className = method.getRealClass().getName();
+      if (method.getGroupsDependedUpon().length > 0 || Arrays.stream(method.getMethodsDependedUpon())
+        .anyMatch(name -> !name.startsWith(className + '.'))) {
+        TestUtils.log().warn("{} depends on other classes, {} runs the whole suite", method.getQualifiedName(),
+                             DEVICE_POOL_TEST_NAME + 1);
+        return slot == 0 ? methods : Collections.emptyList();
+      }
+      if (method.getMethodsDependedUpon().length > 0) {
+        dependentClasses.add(className);
+      }
+    }
+    Map<String, Integer> units = new HashMap<>();
+    List<IMethodInstance> kept = new ArrayList<>();
+    for (IMethodInstance instance : methods) {
+      ITestNGMethod method = instance.getMethod();
+      String className = method.getRealClass().getName();
+      String unit = dependentClasses.contains(className) ? className : method.getQualifiedName();
+      Integer index = units.get(unit);
+      if (Objects.isNull(index)) {
+        index = units.size();
+        units.put(unit, index);
+      }
+      if (index % slotCount == slot) {
+        kept.add(instance);
+      }
+    }
+    return kept;
+  }
+}
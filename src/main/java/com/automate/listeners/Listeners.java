@@ -1,23 +1,42 @@
 package com.automate.listeners;
 
+import com.automate.bootstrap.SuiteBootstrap;
 import com.automate.customannotations.FrameworkAnnotation;
+import com.automate.driver.metrics.CommandMetrics;
+import com.automate.driver.metrics.LocatorProfiler;
+import com.automate.factories.WaitTimes;
 import com.automate.reports.ExtentReportLogger;
 import com.automate.reports.ExtentReportManager;
+import org.testng.IConfigurationListener;
 import org.testng.ISuite;
 import org.testng.ISuiteListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
 import org.testng.ITestResult;
 
-public class Listeners implements ITestListener, ISuiteListener {
+import java.util.Objects;
+
+public class Listeners implements ITestListener, ISuiteListener, IConfigurationListener {
 
   @Override
   public void onStart(ISuite suite) {
-    ExtentReportManager.initExtentReport();
+    SuiteBootstrap.start(suite);
+  }
+
+  /**
+   * Tags the commands of a before method with the test it prepares, as TestNG runs it before {@link #onTestStart}.
+   */
+  @Override
+  public void beforeConfiguration(ITestResult result, ITestNGMethod testMethod) {
+    if (result.getMethod().isBeforeMethodConfiguration() && Objects.nonNull(testMethod)) {
+      CommandMetrics.startTest(testMethod.getMethodName());
+    }
   }
 
   @Override
   public void onTestStart(ITestResult result) {
+    CommandMetrics.startTest(result.getMethod().getMethodName());
     ExtentReportManager.createTest(result.getMethod().getMethodName());
     ExtentReportManager.addAuthors(
       result.getMethod().getConstructorOrMethod().getMethod().getAnnotation(FrameworkAnnotation.class).author());
@@ -29,24 +48,36 @@ public class Listeners implements ITestListener, ISuiteListener {
 
   @Override
   public void onTestSuccess(ITestResult result) {
+    logWaitTimes();
     ExtentReportLogger.logPass("Test - <b>" + result.getMethod().getMethodName() + "</b> is passed");
+    CommandMetrics.endTest();
   }
 
   @Override
   public void onTestFailure(ITestResult result) {
+    logWaitTimes();
     ExtentReportLogger.logFail("Test - <b>" + result.getMethod().getMethodName() + "</b> is failed", result.getThrowable());
+    CommandMetrics.endTest();
   }
 
   @Override
   public void onTestSkipped(ITestResult result) {
+    logWaitTimes();
     ExtentReportLogger.logSkip("Test - <b>" + result.getMethod().getMethodName() + "</b> is skipped");
+    CommandMetrics.endTest();
   }
 
   @Override
   public void onFinish(ISuite suite) {
+    CommandMetrics.export();
+    LocatorProfiler.export();
     ExtentReportManager.flushExtentReport();
   }
 
+  private static void logWaitTimes() {
+    WaitTimes.endTest().ifPresent(ExtentReportLogger::logInfo);
+  }
+
   @Override
   public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
     // No implementation
@@ -7,13 +7,13 @@ import org.testng.ITestResult;
 
 public class Retry implements IRetryAnalyzer {
 
-  private final int maxRetry = Integer.parseInt(PropertyUtils.getPropertyValue(ConfigProperties.RETRY_COUNT));
+  private final int maxRetry = PropertyUtils.getIntValue(ConfigProperties.RETRY_COUNT);
   private int count = 0;
 
   @Override
   public boolean retry(ITestResult result) {
     boolean value = false;
-    if (PropertyUtils.getPropertyValue(ConfigProperties.RETRY_FAILED_TESTS).equalsIgnoreCase("yes")) {
+    if (PropertyUtils.getBooleanValue(ConfigProperties.RETRY_FAILED_TESTS)) {
       value = count < maxRetry;
       count++;
     }
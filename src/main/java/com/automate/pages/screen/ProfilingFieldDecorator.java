@@ -0,0 +1,89 @@
+package com.automate.pages.screen;
+
+import com.automate.driver.metrics.LocatorProfiler;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.pagefactory.AppiumElementLocatorFactory;
+import io.appium.java_client.pagefactory.AppiumFieldDecorator;
+import io.appium.java_client.pagefactory.DefaultElementByBuilder;
+import io.appium.java_client.pagefactory.ElementInterceptor;
+import io.appium.java_client.pagefactory.locator.CacheableLocator;
+import io.appium.java_client.pagefactory.utils.ProxyFactory;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Decorates the WebElement fields of a page like {@link AppiumFieldDecorator} does, with every lookup of the field going
+ * through the {@link LocatorProfiler} under the key Page.field. Lists, widgets and fields with a cached lookup are left to
+ * the appium decorator.
+ */
+final class ProfilingFieldDecorator implements FieldDecorator {
+
+  private static final Pattern LOCATOR = Pattern.compile("(?:AppiumBy|By)\\.(\\w+): (.*)}\\)$");
+
+  private final AppiumDriver driver;
+  private final AppiumFieldDecorator appiumFieldDecorator;
+  private final AppiumElementLocatorFactory locatorFactory;
+
+  ProfilingFieldDecorator(AppiumDriver driver) {
+    this.driver = driver;
+    this.appiumFieldDecorator = new AppiumFieldDecorator(driver, Duration.ZERO);
+    this.locatorFactory = new AppiumElementLocatorFactory(driver, Duration.ZERO, new DefaultElementByBuilder(
+      String.valueOf(driver.getCapabilities().getCapability("platformName")),
+      String.valueOf(driver.getCapabilities().getCapability("automationName"))));
+  }
+
+  @Override
+  public Object decorate(ClassLoader loader, Field field) {
+    if (field.getType() != WebElement.class) {
+      return appiumFieldDecorator.decorate(loader, field);
+    }
+    CacheableLocator locator = locatorFactory.createLocator(field);
+    if (Objects.isNull(locator) || locator.isLookUpCached()) {
+      return appiumFieldDecorator.decorate(loader, field);
+    }
+    ElementLocator profiledLocator = new ProfiledLocator(field.getDeclaringClass().getSimpleName() + '.' + field.getName(), locator);
+    return ProxyFactory.getEnhancedProxy(RemoteWebElement.class, new ElementInterceptor(profiledLocator, new WeakReference<>(driver)));
+  }
+
+  private final class ProfiledLocator implements ElementLocator {
+
+    private final String key;
+    private final ElementLocator locator;
+    private final String strategy;
+    private final String value;
+
+    private ProfiledLocator(String key, ElementLocator locator) {
+      this.key = key;
+      this.locator = locator;
+      Matcher matcher = LOCATOR.matcher(locator.toString());
+      boolean parsed = matcher.find();
+      this.strategy = parsed ? matcher.group(1) : "unknown";
+      this.value = parsed ? matcher.group(2) : locator.toString();
+    }
+
+    @Override
+    public WebElement findElement() {
+      return LocatorProfiler.find(driver, key, strategy, value, locator::findElement);
+    }
+
+    @Override
+    public List<WebElement> findElements() {
+      return locator.findElements();
+    }
+
+    @Override
+    public String toString() {
+      return locator.toString();
+    }
+  }
+}
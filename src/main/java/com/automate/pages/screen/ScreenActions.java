@@ -1,14 +1,23 @@
 package com.automate.pages.screen;
 
 import com.automate.driver.manager.DriverManager;
+import com.automate.driver.metrics.CommandMetrics;
+import com.automate.driver.metrics.LocatorProfiler;
+import com.automate.driver.snapshot.PageSnapshots;
+import com.automate.driver.snapshot.SnapshotMatch;
+import com.automate.enums.ConfigProperties;
 import com.automate.enums.MobileFindBy;
 import com.automate.enums.WaitStrategy;
+import com.automate.factories.WaitBudget;
+import com.automate.factories.WaitFactory;
 import com.automate.reports.ExtentReportLogger;
+import com.automate.utils.configloader.PropertyUtils;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Ordering;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.PointerInput;
 import org.openqa.selenium.interactions.Sequence;
+import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.ios.IOSDriver;
 import io.appium.java_client.android.PowerACState;
@@ -16,8 +25,12 @@ import io.appium.java_client.pagefactory.AppiumFieldDecorator;
 import io.appium.java_client.AppiumBy;
 import org.openqa.selenium.By;
 import org.openqa.selenium.Dimension;
+import org.openqa.selenium.InvalidSelectorException;
 import org.openqa.selenium.Keys;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.Point;
 import org.openqa.selenium.ScreenOrientation;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.PageFactory;
 
@@ -25,7 +38,9 @@ import java.time.Duration;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 import static com.automate.enums.MobileFindBy.ACCESSIBILITY_ID;
@@ -38,20 +53,29 @@ import static com.automate.factories.WaitFactory.explicitlyWaitForElement;
 
 public class ScreenActions {
 
+  /**
+   * Session of the test that created the page, looked up once instead of on every action.
+   */
+  private final AppiumDriver driver = DriverManager.getDriver();
   private final Map<MobileFindBy, Function<String, WebElement>> mobileFindByFunctionMap = new EnumMap<>(MobileFindBy.class);
-  private final Function<String, WebElement> findByXpath =
-    mobileElement -> DriverManager.getDriver().findElement(By.xpath(mobileElement));
+  private final Function<String, WebElement> findByXpath = this::findElementByXpath;
   private final Function<String, WebElement> findByCss =
-    mobileElement -> DriverManager.getDriver().findElement(By.cssSelector(mobileElement));
-  private final Function<String, WebElement> findById = mobileElement -> DriverManager.getDriver().findElement(By.id(mobileElement));
+    mobileElement -> driver.findElement(By.cssSelector(mobileElement));
+  private final Function<String, WebElement> findById = mobileElement -> driver.findElement(By.id(mobileElement));
   private final Function<String, WebElement> findByName =
-    mobileElement -> DriverManager.getDriver().findElement(By.name(mobileElement));
+    mobileElement -> driver.findElement(By.name(mobileElement));
   private final Function<String, WebElement> findByAccessibilityId =
-    mobileElement -> DriverManager.getDriver().findElement(AppiumBy.accessibilityId(mobileElement));
+    mobileElement -> driver.findElement(AppiumBy.accessibilityId(mobileElement));
   private final Function<String, WebElement> findByClassName =
-    mobileElement -> DriverManager.getDriver().findElement(By.className(mobileElement));
+    mobileElement -> driver.findElement(By.className(mobileElement));
   protected ScreenActions() {
-    PageFactory.initElements(new AppiumFieldDecorator(DriverManager.getDriver()), this);
+    if (CommandMetrics.isEnabled()) {
+      CommandMetrics.setPage(getClass().getSimpleName());
+    }
+    // no lookup wait of the decorator on top of the implicit wait, which WaitBudget owns
+    PageFactory.initElements(LocatorProfiler.isEnabled()
+                               ? new ProfilingFieldDecorator(driver)
+                               : new AppiumFieldDecorator(driver, Duration.ZERO), this);
   }
 
   private WebElement getMobileElement(String mobileElement, MobileFindBy mobileFindBy) {
@@ -63,20 +87,62 @@ public class ScreenActions {
       mobileFindByFunctionMap.put(ACCESSIBILITY_ID, findByAccessibilityId);
       mobileFindByFunctionMap.put(CLASS, findByClassName);
     }
-    return mobileFindByFunctionMap.get(mobileFindBy).apply(mobileElement);
+    Function<String, WebElement> findBy = mobileFindByFunctionMap.get(mobileFindBy);
+    if (LocatorProfiler.isEnabled()) {
+      return LocatorProfiler.find(driver, getClass().getSimpleName() + '[' + mobileFindBy + '=' + mobileElement + ']',
+                                  mobileFindBy.name().toLowerCase(Locale.ROOT), mobileElement,
+                                  () -> findBy.apply(mobileElement));
+    }
+    return findBy.apply(mobileElement);
+  }
+
+  /**
+   * With local_xpath the xpath is evaluated against the cached page source and the element is found through the fastest
+   * locator that identifies the match. The server evaluates the xpath when the expression is outside the local subset, when
+   * nothing or nothing with a unique locator matches, or when the fast locator misses because the screen changed or the
+   * driver does not support it.
+   */
+  private WebElement findElementByXpath(String xpath) {
+    if (PropertyUtils.getBooleanValue(ConfigProperties.LOCAL_XPATH)) {
+      Optional<By> fastLocator = PageSnapshots.get(driver).findFirst(xpath).flatMap(SnapshotMatch::getFastLocator);
+      if (fastLocator.isPresent()) {
+        try {
+          return driver.findElement(fastLocator.get());
+        } catch (NoSuchElementException | InvalidSelectorException e) {
+          PageSnapshots.invalidate(String.valueOf(driver.getSessionId()));
+        }
+      }
+    }
+    return driver.findElement(By.xpath(xpath));
+  }
+
+  /**
+   * With local_xpath taps the center of the local match of the xpath when it has no unique locator to find it by.
+   *
+   * @return false when nothing was tapped
+   */
+  private boolean tapLocalMatch(String xpath) {
+    if (!PropertyUtils.getBooleanValue(ConfigProperties.LOCAL_XPATH)) {
+      return false;
+    }
+    Optional<Point> center = PageSnapshots.get(driver).findFirst(xpath)
+      .filter(match -> match.getFastLocator().isEmpty())
+      .flatMap(SnapshotMatch::getCenter);
+    center.ifPresent(point -> pressCoordinates(point.getX(), point.getY(), 50));
+    return center.isPresent();
   }
 
   protected WebElement getDynamicMobileElement(String mobileElement, MobileFindBy mobileFindBy) {
     if (mobileFindBy == XPATH) {
-      return DriverManager.getDriver().findElement(By.xpath(mobileElement));
+      return findElementByXpath(mobileElement);
     } else if (mobileFindBy == MobileFindBy.CSS) {
-      return DriverManager.getDriver().findElement(By.cssSelector(mobileElement));
+      return driver.findElement(By.cssSelector(mobileElement));
     }
     return null;
   }
 
   protected void waitForPageLoad(int waitTime) {
-    DriverManager.getDriver().manage().timeouts().pageLoadTimeout(Duration.ofSeconds(waitTime));
+    driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(waitTime));
   }
 
   protected String getTextFromAttribute(WaitStrategy waitStrategy, WebElement element) {
@@ -87,8 +153,28 @@ public class ScreenActions {
     return explicitlyWaitForElement(waitStrategy, element).getText();
   }
 
+  /**
+   * Waits for the element to be displayed for at most one explicit wait, without the implicit wait on top of it.
+   *
+   * @return false when the element is not displayed by then
+   */
   protected boolean isElementDisplayed(WebElement element) {
-    return element.isDisplayed();
+    try (WaitBudget.Step ignored = WaitBudget.startStep()) {
+      explicitlyWaitForElement(WaitStrategy.VISIBLE, element);
+      return true;
+    } catch (TimeoutException e) {
+      return false;
+    }
+  }
+
+  /**
+   * @return true as soon as the element is not found or not displayed, false when it is still displayed after one explicit
+   *   wait
+   */
+  protected boolean isElementAbsent(WebElement element) {
+    try (WaitBudget.Step ignored = WaitBudget.startStep()) {
+      return WaitFactory.isElementAbsent(element);
+    }
   }
 
   protected void doClear(WebElement element) {
@@ -96,11 +182,10 @@ public class ScreenActions {
   }
 
   protected void getServerStatus() {
-    DriverManager.getDriver().getStatus();
+    driver.getStatus();
   }
 
   protected void setOrientation(ScreenOrientation screenOrientationType) {
-    Object driver = DriverManager.getDriver();
     if (driver instanceof AndroidDriver) {
       ((AndroidDriver) driver).rotate(screenOrientationType);
       ExtentReportLogger.logInfo("Device Orientation is set to " + screenOrientationType);
@@ -114,12 +199,12 @@ public class ScreenActions {
 
   protected void backgroundApp() {
     // runAppInBackground is available on AndroidDriver/iOSDriver; cast to AppiumDriver subclass
-    if (DriverManager.getDriver() instanceof AndroidDriver) {
-      ((AndroidDriver) DriverManager.getDriver()).runAppInBackground(Duration.ofSeconds(10));
-    } else if (DriverManager.getDriver() instanceof IOSDriver) {
-      ((IOSDriver) DriverManager.getDriver()).runAppInBackground(Duration.ofSeconds(10));
+    if (driver instanceof AndroidDriver) {
+      ((AndroidDriver) driver).runAppInBackground(Duration.ofSeconds(10));
+    } else if (driver instanceof IOSDriver) {
+      ((IOSDriver) driver).runAppInBackground(Duration.ofSeconds(10));
     } else {
-      DriverManager.getDriver().executeScript("mobile: backgroundApp", ImmutableMap.of("seconds", 10));
+      driver.executeScript("mobile: backgroundApp", ImmutableMap.of("seconds", 10));
     }
   }
 
@@ -136,18 +221,18 @@ public class ScreenActions {
   }
 
   protected WebElement getActiveElement() {
-    return DriverManager.getDriver().switchTo().activeElement();
+    return driver.switchTo().activeElement();
   }
 
   protected void moveMouseToElement(WebElement element, int xoffset, int yoffset) {
-    new Actions(DriverManager.getDriver())
+    new Actions(driver)
       .moveToElement(element, xoffset, yoffset)
       .perform();
     ExtentReportLogger.logInfo("Move to target element :" + element);
   }
 
   protected void doubleClickOnElement(WebElement element) {
-    new Actions(DriverManager.getDriver())
+    new Actions(driver)
       .moveToElement(element)
       .doubleClick()
       .perform();
@@ -196,21 +281,20 @@ public class ScreenActions {
   }
 
   protected void hideKeyboard() {
-    Object driver = DriverManager.getDriver();
     try {
       if (driver instanceof AndroidDriver) {
         ((AndroidDriver) driver).hideKeyboard();
       } else if (driver instanceof IOSDriver) {
         ((IOSDriver) driver).hideKeyboard();
       } else {
-        DriverManager.getDriver().executeScript("mobile:hideKeyboard");
+        driver.executeScript("mobile:hideKeyboard");
       }
     } catch (Exception ignored) {
     }
   }
 
   protected void scrollClickAndroid(String scrollableListId, String selectionText) {
-    ((AndroidDriver) DriverManager.getDriver()).findElement(AppiumBy.androidUIAutomator(
+    ((AndroidDriver) driver).findElement(AppiumBy.androidUIAutomator(
       "new UiScrollable(new UiSelector().scrollable(true)."
         + "resourceId(\"" + scrollableListId + "\"))"
         + ".setAsHorizontalList().scrollIntoView(new UiSelector().text(\"" + selectionText + "\"))")).click();
@@ -226,11 +310,15 @@ public class ScreenActions {
   }
 
   public void click(String element, MobileFindBy elementType, String elementName) {
+    if (elementType == XPATH && tapLocalMatch(element)) {
+      ExtentReportLogger.logInfo("Clicked on " + elementName);
+      return;
+    }
     click(getMobileElement(element, elementType), elementName);
   }
 
   protected void enter(WebElement element, String value, String elementName) {
-    try {
+    try (WaitBudget.Step ignored = WaitBudget.startStep()) {
       explicitlyWaitForElement(WaitStrategy.VISIBLE, element);
       doClear(element);
       element.sendKeys(value);
@@ -254,20 +342,24 @@ public class ScreenActions {
     enter(getMobileElement(element, elementType), value, elementName);
   }
 
+  /**
+   * @return true if the text, content description, name, label or value of an element on the screen contains the text,
+   *   answered from the cached page source while the screen is unchanged
+   */
   public boolean isTextPresent(String containsText) {
-    return DriverManager.getDriver().getPageSource().contains(containsText);
+    return PageSnapshots.get(driver).containsText(containsText);
   }
 
   public void powerStateAndroid(String powerState) {
     switch (powerState) {
       case "ON":
-        if (DriverManager.getDriver() instanceof AndroidDriver) {
-          ((AndroidDriver) DriverManager.getDriver()).setPowerAC(PowerACState.ON);
+        if (driver instanceof AndroidDriver) {
+          ((AndroidDriver) driver).setPowerAC(PowerACState.ON);
         }
         break;
       case "OFF":
-        if (DriverManager.getDriver() instanceof AndroidDriver) {
-          ((AndroidDriver) DriverManager.getDriver()).setPowerAC(PowerACState.OFF);
+        if (driver instanceof AndroidDriver) {
+          ((AndroidDriver) driver).setPowerAC(PowerACState.OFF);
         }
         break;
       default:
@@ -280,7 +372,7 @@ public class ScreenActions {
    * Swipe Down
    */
   public void swipeDown() {
-    DriverManager.getDriver().executeScript("mobile:scroll",
+    driver.executeScript("mobile:scroll",
                                             ImmutableMap.of("direction", "down"));
     ExtentReportLogger.logInfo("Swipe Down");
   }
@@ -289,7 +381,7 @@ public class ScreenActions {
    * Swipe Up
    */
   public void swipeUP() {
-    DriverManager.getDriver().executeScript("mobile:scroll", ImmutableMap.of("direction", "up"));
+    driver.executeScript("mobile:scroll", ImmutableMap.of("direction", "up"));
     ExtentReportLogger.logInfo("Swipe Up");
   }
 
@@ -297,7 +389,7 @@ public class ScreenActions {
    * Accept Alert
    */
   public void acceptAlert() {
-    DriverManager.getDriver().executeScript("mobile:acceptAlert");
+    driver.executeScript("mobile:acceptAlert");
     ExtentReportLogger.logInfo("Accept Alert");
   }
 
@@ -305,7 +397,7 @@ public class ScreenActions {
    * Dismiss Alert
    */
   public void dismissAlert() {
-    DriverManager.getDriver().executeScript("mobile:dismissAlert");
+    driver.executeScript("mobile:dismissAlert");
     ExtentReportLogger.logInfo("Dismiss Alert");
   }
 
@@ -333,7 +425,7 @@ public class ScreenActions {
       scrollElement.put("endX", 0.50);
       scrollElement.put("endY", 0.01);
       scrollElement.put("duration", 3.0);
-      DriverManager.getDriver().executeScript("mobile: swipe", scrollElement);
+      driver.executeScript("mobile: swipe", scrollElement);
     } catch (Exception e) {
       ExtentReportLogger.logFail("Exception caught when scrolling to specific location", e);
     }
@@ -457,7 +549,7 @@ public class ScreenActions {
    */
   @SuppressWarnings("rawtypes")
   public void horizontalSwipeByPercentage(double startPercentage, double endPercentage, double anchorPercentage) {
-    Dimension size = DriverManager.getDriver().manage().window().getSize();
+    Dimension size = driver.manage().window().getSize();
     int anchor = (int) (size.height * anchorPercentage);
     int startPoint = (int) (size.width * startPercentage);
     int endPoint = (int) (size.width * endPercentage);
@@ -473,7 +565,7 @@ public class ScreenActions {
    */
   @SuppressWarnings("rawtypes")
   public void verticalSwipeByPercentages(double startPercentage, double endPercentage, double anchorPercentage) {
-    Dimension size = DriverManager.getDriver().manage().window().getSize();
+    Dimension size = driver.manage().window().getSize();
     int anchor = (int) (size.width * anchorPercentage);
     int startPoint = (int) (size.height * startPercentage);
     int endPoint = (int) (size.height * endPercentage);
@@ -523,7 +615,7 @@ public class ScreenActions {
     tap.addAction(finger.createPointerMove(Duration.ZERO, PointerInput.Origin.fromElement(element), centerX, centerY));
     tap.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
     tap.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
-    DriverManager.getDriver().perform(List.of(tap));
+    driver.perform(List.of(tap));
   }
 
   private void longPressElement(WebElement element, long durationMillis) {
@@ -535,7 +627,7 @@ public class ScreenActions {
     seq.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
     seq.addAction(new org.openqa.selenium.interactions.Pause(finger, Duration.ofMillis(durationMillis)));
     seq.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
-    DriverManager.getDriver().perform(List.of(seq));
+    driver.perform(List.of(seq));
   }
 
   private void swipeCoordinates(int startX, int startY, int endX, int endY, int durationMillis) {
@@ -545,7 +637,7 @@ public class ScreenActions {
     swipe.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
     swipe.addAction(finger.createPointerMove(Duration.ofMillis(durationMillis), PointerInput.Origin.viewport(), endX, endY));
     swipe.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
-    DriverManager.getDriver().perform(List.of(swipe));
+    driver.perform(List.of(swipe));
   }
 
   private void pressCoordinates(int x, int y, int durationMillis) {
@@ -555,7 +647,7 @@ public class ScreenActions {
     seq.addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()));
     seq.addAction(new org.openqa.selenium.interactions.Pause(finger, Duration.ofMillis(durationMillis)));
     seq.addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
-    DriverManager.getDriver().perform(List.of(seq));
+    driver.perform(List.of(seq));
   }
 
 }
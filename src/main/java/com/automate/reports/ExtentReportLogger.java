@@ -14,7 +14,7 @@ import lombok.NoArgsConstructor;
 public final class ExtentReportLogger {
 
   public static void logPass(String message) {
-    if (PropertyUtils.getPropertyValue(ConfigProperties.PASSED_STEP_SCREENSHOTS).equalsIgnoreCase("yes")) {
+    if (PropertyUtils.getBooleanValue(ConfigProperties.PASSED_STEP_SCREENSHOTS)) {
       ExtentReportManager.getExtentTest().pass(message,
                                                MediaEntityBuilder.createScreenCaptureFromBase64String(
                                                  ScreenshotService.getScreenshotAsBase64()).build());
@@ -24,7 +24,7 @@ public final class ExtentReportLogger {
   }
 
   public static void logFail(String message, Throwable t) {
-    if (PropertyUtils.getPropertyValue(ConfigProperties.FAILED_STEP_SCREENSHOTS).equalsIgnoreCase("yes")) {
+    if (PropertyUtils.getBooleanValue(ConfigProperties.FAILED_STEP_SCREENSHOTS)) {
       ExtentReportManager.getExtentTest().fail(MarkupHelper.createLabel(message, ExtentColor.RED))
         .fail(MediaEntityBuilder.createScreenCaptureFromBase64String(ScreenshotService.getScreenshotAsBase64()).build())
         .fail(t);
@@ -34,7 +34,7 @@ public final class ExtentReportLogger {
   }
 
   public static void logSkip(String message) {
-    if (PropertyUtils.getPropertyValue(ConfigProperties.SKIPPED_STEP_SCREENSHOTS).equalsIgnoreCase("yes")) {
+    if (PropertyUtils.getBooleanValue(ConfigProperties.SKIPPED_STEP_SCREENSHOTS)) {
       ExtentReportManager.getExtentTest().skip(message,
                                                MediaEntityBuilder.createScreenCaptureFromBase64String(
                                                  ScreenshotService.getScreenshotAsBase64()).build());
@@ -1,8 +1,7 @@
 package com.automate.reports;
 
 import com.automate.constants.FrameworkConstants;
-import com.automate.driver.manager.DeviceManager;
-import com.automate.driver.manager.PlatformManager;
+import com.automate.driver.manager.ExecutionContext;
 import com.automate.enums.CategoryType;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
@@ -21,7 +20,6 @@ import java.util.Objects;
 public final class ExtentReportManager {
 
   private static final ExtentSparkReporter extentSparkReporter = new ExtentSparkReporter(FrameworkConstants.getExtentReportPath());
-  private static final ThreadLocal<ExtentTest> threadLocalExtentTest = new ThreadLocal<>();
   private static ExtentReports extentReports;
   private static InetAddress ip;
   private static String hostname;
@@ -48,6 +46,15 @@ public final class ExtentReportManager {
     }
   }
 
+  /**
+   * Adds an entry to the environment section of the report. Safe to call from background threads.
+   */
+  public static synchronized void addSystemInfo(String name, String value) {
+    if (Objects.nonNull(extentReports)) {
+      extentReports.setSystemInfo(name, value);
+    }
+  }
+
   public static void createTest(String testCaseName) {
     setExtentTest(extentReports.createTest(testCaseName));
   }
@@ -57,6 +64,10 @@ public final class ExtentReportManager {
       extentReports.flush();
     }
     unload();
+    // headless runs, like the device pool test or a CI agent, have no browser to open the report in
+    if (!Desktop.isDesktopSupported()) {
+      return;
+    }
     try {
       Desktop.getDesktop().browse(new File(FrameworkConstants.getExtentReportPath()).toURI());
     } catch (IOException e) {
@@ -65,15 +76,15 @@ public final class ExtentReportManager {
   }
 
   public static ExtentTest getExtentTest() {
-    return threadLocalExtentTest.get();
+    return ExecutionContext.current().getExtentTest();
   }
 
   static void setExtentTest(ExtentTest test) {
-    threadLocalExtentTest.set(test);
+    ExecutionContext.set(ExecutionContext.current().toBuilder().setExtentTest(test).build());
   }
 
   static void unload() {
-    threadLocalExtentTest.remove();
+    setExtentTest(null);
   }
 
   public static void addAuthors(String[] authors) {
@@ -89,6 +100,7 @@ public final class ExtentReportManager {
   }
 
   public static void addDevices() {
-    getExtentTest().assignDevice(PlatformManager.getPlatformName() + "-" + DeviceManager.getDeviceName());
+    ExecutionContext context = ExecutionContext.current();
+    context.getExtentTest().assignDevice(context.getPlatformName() + "-" + context.getDeviceName());
   }
 }
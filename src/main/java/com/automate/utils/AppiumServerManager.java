@@ -1,6 +1,11 @@
 package com.automate.utils;
 
 import com.automate.constants.FrameworkConstants;
+import com.automate.customexceptions.FrameworkException;
+import com.automate.driver.device.Device;
+import com.automate.driver.server.AppiumServerPool;
+import com.automate.driver.server.FakeAppiumServer;
+import com.automate.driver.server.ServerStatus;
 import com.automate.enums.ConfigProperties;
 import com.automate.utils.configloader.PropertyUtils;
 import io.appium.java_client.service.local.AppiumDriverLocalService;
@@ -10,29 +15,28 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 import java.io.File;
-import java.io.IOException;
-import java.net.ServerSocket;
+import java.net.MalformedURLException;
+import java.net.URL;
 import java.time.Duration;
+import java.util.List;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class AppiumServerManager {
 
   private static AppiumDriverLocalService service;
 
-  static boolean checkIfServerIsRunning(int port) {
-    boolean isServerRunning = false;
-    try {
-      ServerSocket serverSocket = new ServerSocket(port);
-      serverSocket.close();
-    } catch (IOException e) {
-      isServerRunning = true;
-    }
-    return isServerRunning;
-  }
-
-  public static void startAppiumServer() {
-    if (PropertyUtils.getPropertyValue(ConfigProperties.START_APPIUM_SERVER).equalsIgnoreCase("yes")) {
-      if (!AppiumServerManager.checkIfServerIsRunning(FrameworkConstants.APPIUM_SERVER_PORT)) {
+  /**
+   * Starts a single server on {@link FrameworkConstants#APPIUM_SERVER_PORT} or, with appium_server_pool, one server per
+   * device through the {@link AppiumServerPool}. With fake_appium_server only the in-process {@link FakeAppiumServer} is
+   * started.
+   */
+  public static void startAppiumServer(List<Device> devices) {
+    if (FakeAppiumServer.isEnabled()) {
+      FakeAppiumServer.start();
+    } else if (PropertyUtils.getBooleanValue(ConfigProperties.START_APPIUM_SERVER)) {
+      if (AppiumServerPool.isEnabled()) {
+        AppiumServerPool.start(devices);
+      } else if (!ServerStatus.isReady(getServerUrl())) {
         //Build the Appium service
         AppiumServiceBuilder builder = new AppiumServiceBuilder();
         builder.usingDriverExecutable(new File(FrameworkConstants.NODEJS_PATH))
@@ -53,17 +57,20 @@ public final class AppiumServerManager {
     }
   }
 
+  private static URL getServerUrl() {
+    try {
+      return new URL("http", FrameworkConstants.APPIUM_SERVER_HOST, FrameworkConstants.APPIUM_SERVER_PORT, "/");
+    } catch (MalformedURLException e) {
+      throw new FrameworkException("Invalid appium server address", e);
+    }
+  }
+
   public static void stopAppiumServer() {
-    if (PropertyUtils.getPropertyValue(ConfigProperties.START_APPIUM_SERVER).equalsIgnoreCase("yes")) {
+    FakeAppiumServer.stop();
+    if (PropertyUtils.getBooleanValue(ConfigProperties.START_APPIUM_SERVER)) {
+      AppiumServerPool.shutdown();
       if (service != null && service.isRunning()) {
         service.stop();
-        Runtime runtime = Runtime.getRuntime();
-        try {
-          runtime.exec("taskkill /F /IM node.exe");
-          runtime.exec("taskkill /F /IM cmd.exe");
-        } catch (Exception e) {
-          e.printStackTrace();
-        }
       }
     }
   }
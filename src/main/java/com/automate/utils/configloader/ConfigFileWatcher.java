@@ -0,0 +1,84 @@
+package com.automate.utils.configloader;
+
+import com.automate.utils.TestUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * Watches configuration files on a single daemon thread and runs the registered reload action when a file changes.
+ * A failing reload is logged and the previously loaded snapshot stays in place.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ConfigFileWatcher {
+
+  private static final Map<Path, Runnable> RELOAD_ACTIONS = new ConcurrentHashMap<>();
+  private static final Map<Path, WatchKey> WATCHED_DIRECTORIES = new ConcurrentHashMap<>();
+  private static WatchService watchService;
+
+  static synchronized void watch(String filePath, Runnable reloadAction) {
+    Path file = Paths.get(filePath).toAbsolutePath().normalize();
+    Path directory = file.getParent();
+    try {
+      if (Objects.isNull(watchService)) {
+        watchService = FileSystems.getDefault().newWatchService();
+        Thread watcherThread = new Thread(ConfigFileWatcher::processEvents, "config-file-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+      }
+      if (!WATCHED_DIRECTORIES.containsKey(directory)) {
+        WATCHED_DIRECTORIES.put(directory, directory.register(watchService, ENTRY_MODIFY, ENTRY_CREATE));
+      }
+      RELOAD_ACTIONS.put(file, reloadAction);
+    } catch (IOException e) {
+      TestUtils.log().warn("Unable to watch {} for changes, configuration hot reload is disabled", file, e);
+    }
+  }
+
+  private static void processEvents() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        WatchKey key = watchService.take();
+        Path directory = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+          if (event.kind() != OVERFLOW) {
+            reload(directory.resolve((Path) event.context()));
+          }
+        }
+        key.reset();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException ignored) {
+      // Watch service is closed only when the JVM shuts down
+    }
+  }
+
+  private static void reload(Path file) {
+    Runnable reloadAction = RELOAD_ACTIONS.get(file);
+    if (Objects.isNull(reloadAction)) {
+      return;
+    }
+    try {
+      reloadAction.run();
+      TestUtils.log().info("Reloaded configuration from {}", file);
+    } catch (RuntimeException e) {
+      TestUtils.log().warn("Failed to reload {}, keeping the previous configuration", file, e);
+    }
+  }
+}
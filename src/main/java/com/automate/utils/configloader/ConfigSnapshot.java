@@ -0,0 +1,85 @@
+package com.automate.utils.configloader;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Immutable view of one parsed configuration file, indexed by the ordinal of the config enum.
+ * Values are converted to their typed form once at load time so that lookups are plain array reads.
+ *
+ * @param <E> config key enum
+ */
+final class ConfigSnapshot<E extends Enum<E>> {
+
+  private final E[] keys;
+  private final String[] values;
+  private final boolean[] booleanValues;
+  private final int[] intValues;
+  private final boolean[] intParsed;
+
+  private ConfigSnapshot(E[] keys) {
+    this.keys = keys;
+    values = new String[keys.length];
+    booleanValues = new boolean[keys.length];
+    intValues = new int[keys.length];
+    intParsed = new boolean[keys.length];
+  }
+
+  /**
+   * Builds a snapshot by resolving every constant of the enum through the lookup, using the lower-case constant name as key.
+   */
+  static <E extends Enum<E>> ConfigSnapshot<E> of(Class<E> keyType, Function<String, String> lookup) {
+    E[] keys = keyType.getEnumConstants();
+    ConfigSnapshot<E> snapshot = new ConfigSnapshot<>(keys);
+    for (E key : keys) {
+      String value = lookup.apply(key.name().toLowerCase());
+      if (Objects.isNull(value)) {
+        continue;
+      }
+      int index = key.ordinal();
+      String trimmed = value.trim();
+      snapshot.values[index] = value;
+      snapshot.booleanValues[index] = trimmed.equalsIgnoreCase("yes") || trimmed.equalsIgnoreCase("true");
+      try {
+        snapshot.intValues[index] = Integer.parseInt(trimmed);
+        snapshot.intParsed[index] = true;
+      } catch (NumberFormatException ignored) {
+        // Not every value is numeric, typed access is validated on lookup
+      }
+    }
+    return snapshot;
+  }
+
+  /**
+   * @return the first key the other snapshot has and this one lacks, empty when this one has all of them
+   */
+  Optional<E> findMissingKey(ConfigSnapshot<E> other) {
+    for (E key : keys) {
+      if (other.contains(key) && !contains(key)) {
+        return Optional.of(key);
+      }
+    }
+    return Optional.empty();
+  }
+
+  boolean contains(E key) {
+    return Objects.nonNull(values[key.ordinal()]);
+  }
+
+  String get(E key) {
+    return values[key.ordinal()];
+  }
+
+  boolean getBoolean(E key) {
+    return booleanValues[key.ordinal()];
+  }
+
+  boolean isInt(E key) {
+    return intParsed[key.ordinal()];
+  }
+
+  int getInt(E key) {
+    return intValues[key.ordinal()];
+  }
+}
@@ -0,0 +1,89 @@
+package com.automate.utils.configloader;
+
+import com.automate.customexceptions.JsonFileUsageException;
+import com.automate.enums.ConfigJson;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * Parsed form of config.json. The document is parsed once and shared by the enum-indexed snapshot used by
+ * {@link JsonUtils#getConfig} and by the JsonPath lookups of {@link JsonUtils#getValue}.
+ */
+final class JsonConfigDocument {
+
+  private final DocumentContext document;
+  private final ConfigSnapshot<ConfigJson> snapshot;
+  private final long lastModified;
+  private final long contentHash;
+
+  private JsonConfigDocument(DocumentContext document, long lastModified, long contentHash) {
+    this.document = document;
+    this.lastModified = lastModified;
+    this.contentHash = contentHash;
+    Object root = document.json();
+    if (!(root instanceof Map)) {
+      throw new JsonFileUsageException("config.json must contain a json object at the root");
+    }
+    Map<?, ?> rootMap = (Map<?, ?>) root;
+    this.snapshot = ConfigSnapshot.of(ConfigJson.class, key -> {
+      Object value = rootMap.get(key);
+      return Objects.isNull(value) ? null : String.valueOf(value);
+    });
+  }
+
+  static JsonConfigDocument load(String jsonPath) {
+    Path path = Paths.get(jsonPath);
+    try {
+      long lastModified = Files.getLastModifiedTime(path).toMillis();
+      byte[] content = Files.readAllBytes(path);
+      return new JsonConfigDocument(JsonPath.parse(new String(content, StandardCharsets.UTF_8)), lastModified, hash(content));
+    } catch (IOException e) {
+      throw new JsonFileUsageException("IOException occurred while reading Json file in the specified path", e);
+    }
+  }
+
+  /**
+   * Returns a document reflecting the current file content. The file is only parsed again when both its modification time
+   * and its content hash changed, otherwise the current instance (or a copy carrying the new modification time) is reused.
+   */
+  JsonConfigDocument refresh(String jsonPath) {
+    Path path = Paths.get(jsonPath);
+    try {
+      long modified = Files.getLastModifiedTime(path).toMillis();
+      if (modified == lastModified) {
+        return this;
+      }
+      byte[] content = Files.readAllBytes(path);
+      long hash = hash(content);
+      if (hash == contentHash) {
+        return new JsonConfigDocument(document, modified, contentHash);
+      }
+      return new JsonConfigDocument(JsonPath.parse(new String(content, StandardCharsets.UTF_8)), modified, hash);
+    } catch (IOException e) {
+      throw new JsonFileUsageException("IOException occurred while reading Json file in the specified path", e);
+    }
+  }
+
+  private static long hash(byte[] content) {
+    CRC32 crc = new CRC32();
+    crc.update(content);
+    return crc.getValue();
+  }
+
+  DocumentContext getDocument() {
+    return document;
+  }
+
+  ConfigSnapshot<ConfigJson> getSnapshot() {
+    return snapshot;
+  }
+}
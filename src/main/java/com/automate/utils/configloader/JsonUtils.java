@@ -1,49 +1,119 @@
 package com.automate.utils.configloader;
 
 import com.automate.constants.FrameworkConstants;
-import com.automate.customexceptions.InvalidPathException;
 import com.automate.customexceptions.JsonFileUsageException;
 import com.automate.enums.ConfigJson;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
-import java.io.File;
-import java.io.IOException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class JsonUtils {
 
-  private static Map<String, String> map;
+  private static final Map<String, JsonPath> COMPILED_PATHS = new ConcurrentHashMap<>();
+  private static volatile JsonConfigDocument configDocument;
 
-  public static String getValue(String key) {
-    try {
-      return JsonPath.read(new File(FrameworkConstants.CONFIG_JSON_PATH), key);
-    } catch (IOException e) {
-      throw new InvalidPathException("Check the config.json");
+  /**
+   * Reads the value at the given JsonPath expression from config.json. The expression is compiled once and evaluated
+   * against the already parsed document. Objects and arrays are returned as unmodifiable copies, as the document is shared
+   * by all threads.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T getValue(String key) {
+    return (T) toUnmodifiable(getConfigDocument().getDocument().read(compile(key)));
+  }
+
+  /**
+   * Resolves several JsonPath expressions against the same parsed document.
+   *
+   * @return values keyed by the expression, in the order the expressions were passed, objects and arrays as unmodifiable
+   *   copies
+   */
+  public static Map<String, Object> getValues(String... keys) {
+    DocumentContext document = getConfigDocument().getDocument();
+    Map<String, Object> values = new LinkedHashMap<>();
+    for (String key : keys) {
+      values.put(key, toUnmodifiable(document.read(compile(key))));
     }
+    return values;
   }
 
-  static void readJson(String jsonPath) {
-    try {
-      map = new ObjectMapper().readValue(new File(jsonPath),
-                                         new TypeReference<HashMap<String, String>>() {
-                                         });
-    } catch (IOException e) {
-      throw new JsonFileUsageException("IOException occurred while reading Json file in the specified path");
+  private static Object toUnmodifiable(Object value) {
+    if (value instanceof Map) {
+      Map<Object, Object> copy = new LinkedHashMap<>();
+      ((Map<?, ?>) value).forEach((name, element) -> copy.put(name, toUnmodifiable(element)));
+      return Collections.unmodifiableMap(copy);
+    }
+    if (value instanceof List) {
+      List<Object> copy = new ArrayList<>();
+      ((List<?>) value).forEach(element -> copy.add(toUnmodifiable(element)));
+      return Collections.unmodifiableList(copy);
     }
+    return value;
   }
 
-  public static String getConfig(ConfigJson key) {
-    readJson(FrameworkConstants.CONFIG_JSON_PATH);
-    if (Objects.isNull(map.get(key.name().toLowerCase()))) {
+  private static JsonPath compile(String key) {
+    return COMPILED_PATHS.computeIfAbsent(key, JsonPath::compile);
+  }
+
+  /**
+   * Returns the parsed config.json. The file is parsed once on first use and swapped atomically whenever the file watcher
+   * reports a change of its modification time and content.
+   */
+  private static JsonConfigDocument getConfigDocument() {
+    JsonConfigDocument current = configDocument;
+    if (Objects.isNull(current)) {
+      synchronized (JsonUtils.class) {
+        current = configDocument;
+        if (Objects.isNull(current)) {
+          current = JsonConfigDocument.load(FrameworkConstants.CONFIG_JSON_PATH);
+          configDocument = current;
+          ConfigFileWatcher.watch(FrameworkConstants.CONFIG_JSON_PATH, JsonUtils::reload);
+        }
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Swaps in the changed file unless it lacks a property of the current snapshot, as an editor may have saved it only
+   * partly; the watcher then keeps the current document until the next change.
+   */
+  static synchronized void reload() {
+    JsonConfigDocument current = getConfigDocument();
+    JsonConfigDocument reloaded = current.refresh(FrameworkConstants.CONFIG_JSON_PATH);
+    reloaded.getSnapshot().findMissingKey(current.getSnapshot()).ifPresent(key -> {
+      throw new JsonFileUsageException("Property name - " + key + " is missing from the changed config.json");
+    });
+    configDocument = reloaded;
+  }
+
+  private static ConfigSnapshot<ConfigJson> getSnapshotContaining(ConfigJson key) {
+    ConfigSnapshot<ConfigJson> current = getConfigDocument().getSnapshot();
+    if (!current.contains(key)) {
       throw new JsonFileUsageException("Property name - " + key + " is not found. Please check the config.json");
     }
-    return map.get(key.name().toLowerCase());
+    return current;
+  }
+
+  public static String getConfig(ConfigJson key) {
+    return getSnapshotContaining(key).get(key);
+  }
+
+  public static int getIntConfig(ConfigJson key) {
+    ConfigSnapshot<ConfigJson> current = getSnapshotContaining(key);
+    if (!current.isInt(key)) {
+      throw new JsonFileUsageException("Property name - " + key + " is not a number. Please check the config.json");
+    }
+    return current.getInt(key);
   }
 }
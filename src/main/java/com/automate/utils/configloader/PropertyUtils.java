@@ -14,21 +14,76 @@ import java.util.Properties;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class PropertyUtils {
 
-  private static final Properties property = new Properties();
+  private static volatile ConfigSnapshot<ConfigProperties> snapshot;
 
-  static void loadProperties(String propertyFilePath) {
+  static ConfigSnapshot<ConfigProperties> loadProperties(String propertyFilePath) {
+    Properties property = new Properties();
     try (FileInputStream input = new FileInputStream(propertyFilePath)) {
       property.load(input);
     } catch (IOException e) {
       throw new PropertyFileUsageException("IOException occurred while loading Property file in the specified path");
     }
+    return ConfigSnapshot.of(ConfigProperties.class, property::getProperty);
   }
 
-  public static String getPropertyValue(ConfigProperties key) {
-    loadProperties(FrameworkConstants.CONFIG_PROPERTIES_PATH);
-    if (Objects.isNull(property.getProperty(key.name().toLowerCase())) || Objects.isNull(key.name().toLowerCase())) {
+  /**
+   * Returns the current snapshot of config.properties. The file is parsed once on first use and swapped atomically
+   * whenever the file watcher reports a change.
+   */
+  private static ConfigSnapshot<ConfigProperties> getSnapshot() {
+    ConfigSnapshot<ConfigProperties> current = snapshot;
+    if (Objects.isNull(current)) {
+      synchronized (PropertyUtils.class) {
+        current = snapshot;
+        if (Objects.isNull(current)) {
+          current = loadProperties(FrameworkConstants.CONFIG_PROPERTIES_PATH);
+          snapshot = current;
+          ConfigFileWatcher.watch(FrameworkConstants.CONFIG_PROPERTIES_PATH, PropertyUtils::reload);
+        }
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Swaps in the changed file unless it lacks a property of the current snapshot, as an editor may have saved it only
+   * partly; the watcher then keeps the current snapshot until the next change.
+   */
+  static void reload() {
+    ConfigSnapshot<ConfigProperties> reloaded = loadProperties(FrameworkConstants.CONFIG_PROPERTIES_PATH);
+    ConfigSnapshot<ConfigProperties> current = snapshot;
+    if (Objects.nonNull(current)) {
+      reloaded.findMissingKey(current).ifPresent(key -> {
+        throw new PropertyFileUsageException("Property name - " + key + " is missing from the changed config.properties");
+      });
+    }
+    snapshot = reloaded;
+  }
+
+  private static ConfigSnapshot<ConfigProperties> getSnapshotContaining(ConfigProperties key) {
+    ConfigSnapshot<ConfigProperties> current = getSnapshot();
+    if (!current.contains(key)) {
       throw new PropertyFileUsageException("Property name - " + key + " is not found. Please check the config.properties");
     }
-    return property.getProperty(key.name().toLowerCase());
+    return current;
+  }
+
+  public static String getPropertyValue(ConfigProperties key) {
+    return getSnapshotContaining(key).get(key);
+  }
+
+  /**
+   * @return true when the property is set to yes or true (case-insensitive)
+   */
+  public static boolean getBooleanValue(ConfigProperties key) {
+    return getSnapshotContaining(key).getBoolean(key);
+  }
+
+  public static int getIntValue(ConfigProperties key) {
+    ConfigSnapshot<ConfigProperties> current = getSnapshotContaining(key);
+    if (!current.isInt(key)) {
+      throw new PropertyFileUsageException("Property name - " + key + " is not a number. Please check the config.properties");
+    }
+    return current.getInt(key);
   }
 }
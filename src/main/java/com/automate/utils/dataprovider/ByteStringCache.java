@@ -0,0 +1,58 @@
+package com.automate.utils.dataprovider;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Small direct-mapped cache turning UTF-8 byte ranges of a buffer into strings. Repeated values (test case names, shared
+ * credentials...) are decoded once and then returned without allocating.
+ */
+final class ByteStringCache {
+
+  private final byte[][] keys;
+  private final String[] values;
+  private final int mask;
+
+  /**
+   * @param capacity number of slots, rounded up to a power of two
+   */
+  ByteStringCache(int capacity) {
+    int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+    keys = new byte[size][];
+    values = new String[size];
+    mask = size - 1;
+  }
+
+  String get(ByteBuffer buffer, int start, int end) {
+    int hash = 1;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + buffer.get(i);
+    }
+    int slot = (hash ^ (hash >>> 16)) & mask;
+    byte[] key = keys[slot];
+    if (Objects.nonNull(key) && matches(key, buffer, start, end)) {
+      return values[slot];
+    }
+    byte[] bytes = new byte[end - start];
+    for (int i = start; i < end; i++) {
+      bytes[i - start] = buffer.get(i);
+    }
+    String value = new String(bytes, StandardCharsets.UTF_8);
+    keys[slot] = bytes;
+    values[slot] = value;
+    return value;
+  }
+
+  private static boolean matches(byte[] key, ByteBuffer buffer, int start, int end) {
+    if (key.length != end - start) {
+      return false;
+    }
+    for (int i = 0; i < key.length; i++) {
+      if (key[i] != buffer.get(start + i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
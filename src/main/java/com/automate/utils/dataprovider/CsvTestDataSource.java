@@ -0,0 +1,176 @@
+package com.automate.utils.dataprovider;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads RFC 4180 CSV files with a header line. The file is memory-mapped and scanned in place: field boundaries are found on
+ * the raw bytes, rows of other test cases are skipped before their fields are decoded and repeated values are decoded once.
+ * A CSV file holds a single table, so the table name is ignored.
+ */
+final class CsvTestDataSource implements TestDataSource {
+
+  private static final int STRING_CACHE_SIZE = 4096;
+
+  private final String filePath;
+
+  CsvTestDataSource(String filePath) {
+    this.filePath = filePath;
+  }
+
+  @Override
+  public void read(String tableName, SheetRowHandler handler) {
+    parse(handler, null);
+  }
+
+  @Override
+  public void readTestCase(String tableName, String testCaseName, SheetRowHandler handler) {
+    parse(handler, testCaseName);
+  }
+
+  private void parse(SheetRowHandler handler, String testCaseName) {
+    RecordScanner scanner = new RecordScanner(TestDataSources.mapReadOnly(filePath));
+    ByteStringCache strings = new ByteStringCache(STRING_CACHE_SIZE);
+    if (!scanner.next()) {
+      return;
+    }
+    String[] header = new String[scanner.fieldCount];
+    for (int i = 0; i < header.length; i++) {
+      header[i] = scanner.field(i, strings).intern();
+    }
+    handler.onHeader(header);
+    int testCaseColumn = List.of(header).indexOf(TestDataSource.TEST_CASE_NAME_COLUMN);
+    boolean filtered = Objects.nonNull(testCaseName);
+    if (filtered && testCaseColumn < 0) {
+      return;
+    }
+    while (scanner.next()) {
+      if (scanner.isBlankLine()) {
+        continue;
+      }
+      if (filtered && !testCaseName.equalsIgnoreCase(scanner.field(testCaseColumn, strings))) {
+        continue;
+      }
+      String[] row = new String[header.length];
+      for (int i = 0; i < row.length; i++) {
+        row[i] = scanner.field(i, strings);
+      }
+      handler.onRow(row);
+    }
+  }
+
+  /**
+   * Splits the mapped file into records and keeps the byte range of every field of the current record.
+   */
+  private static final class RecordScanner {
+
+    private final ByteBuffer buffer;
+    private final int limit;
+    private int position;
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private boolean[] escaped = new boolean[16];
+    private int fieldCount;
+
+    private RecordScanner(ByteBuffer buffer) {
+      this.buffer = buffer;
+      this.limit = buffer.limit();
+      if (limit >= 3 && buffer.get(0) == (byte) 0xEF && buffer.get(1) == (byte) 0xBB && buffer.get(2) == (byte) 0xBF) {
+        position = 3;
+      }
+    }
+
+    private boolean next() {
+      if (position >= limit) {
+        return false;
+      }
+      fieldCount = 0;
+      while (true) {
+        if (position < limit && buffer.get(position) == '"') {
+          scanQuotedField();
+        } else {
+          int start = position;
+          skipToDelimiter();
+          addField(start, position, false);
+        }
+        if (position >= limit) {
+          return true;
+        }
+        byte delimiter = buffer.get(position++);
+        if (delimiter != ',') {
+          if (delimiter == '\r' && position < limit && buffer.get(position) == '\n') {
+            position++;
+          }
+          return true;
+        }
+      }
+    }
+
+    private void scanQuotedField() {
+      int start = ++position;
+      boolean hasEscapedQuote = false;
+      while (position < limit) {
+        if (buffer.get(position) == '"') {
+          if (position + 1 < limit && buffer.get(position + 1) == '"') {
+            hasEscapedQuote = true;
+            position += 2;
+            continue;
+          }
+          break;
+        }
+        position++;
+      }
+      addField(start, Math.min(position, limit), hasEscapedQuote);
+      position++;
+      skipToDelimiter();
+    }
+
+    private void skipToDelimiter() {
+      while (position < limit) {
+        byte b = buffer.get(position);
+        if (b == ',' || b == '\n' || b == '\r') {
+          return;
+        }
+        position++;
+      }
+    }
+
+    private void addField(int start, int end, boolean hasEscapedQuote) {
+      if (fieldCount == starts.length) {
+        starts = Arrays.copyOf(starts, fieldCount * 2);
+        ends = Arrays.copyOf(ends, fieldCount * 2);
+        escaped = Arrays.copyOf(escaped, fieldCount * 2);
+      }
+      starts[fieldCount] = start;
+      ends[fieldCount] = end;
+      escaped[fieldCount] = hasEscapedQuote;
+      fieldCount++;
+    }
+
+    private boolean isBlankLine() {
+      return fieldCount == 1 && starts[0] == ends[0];
+    }
+
+    private String field(int index, ByteStringCache strings) {
+      if (index >= fieldCount) {
+        return "";
+      }
+      if (!escaped[index]) {
+        return strings.get(buffer, starts[index], ends[index]);
+      }
+      ByteArrayOutputStream unescaped = new ByteArrayOutputStream(ends[index] - starts[index]);
+      for (int i = starts[index]; i < ends[index]; i++) {
+        byte b = buffer.get(i);
+        unescaped.write(b);
+        if (b == '"') {
+          i++;
+        }
+      }
+      return new String(unescaped.toByteArray(), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -1,59 +1,51 @@
 package com.automate.utils.dataprovider;
 
 import com.automate.constants.FrameworkConstants;
-import com.automate.entity.LoginData;
-import com.automate.entity.SearchData;
 import com.automate.entity.TestData;
+import com.automate.enums.ConfigProperties;
+import com.automate.utils.configloader.PropertyUtils;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.testng.annotations.DataProvider;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.function.Predicate;
+import java.util.Iterator;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class DataProviderUtils {
 
-  private static List<Map<String, String>> list = new ArrayList<>();
+  public static final String EAGER_DATA_PROVIDER = "getData";
+  public static final String LAZY_DATA_PROVIDER = "getDataLazily";
 
-  @DataProvider
+  /**
+   * Supplies every row of the data sheet whose TestCaseName matches the test method name, one invocation per row. Rows are
+   * mapped to the type of the first test method parameter (see {@link com.automate.customannotations.DataColumn}).
+   */
+  @DataProvider(name = EAGER_DATA_PROVIDER)
   public static Object[][] getData(Method method) {
-    LoginData loginData;
-    SearchData searchData;
-    TestData testData = null;
-    String testName = method.getName();
-
-    if (list.isEmpty())
-      list = ExcelUtils.getTestDetails(FrameworkConstants.TEST_DATA_SHEET);
-
-    List<Map<String, String>> smallList = new ArrayList<>(list);
-
-    Predicate<Map<String, String>> isTestNameNotMatching = map -> !map.get("TestCaseName").equalsIgnoreCase(testName);
-
-    smallList.removeIf(isTestNameNotMatching);
-
-    for (Map<String, String> mapData : smallList) {
-
-      loginData = LoginData.builder()
-        .setLoginUsername(mapData.get("username"))
-        .setLoginPassword(mapData.get("password"))
-        .build();
+    return TestDataStore.getInstance().getRows(method.getName(), getEntityType(method));
+  }
 
-      searchData = SearchData.builder()
-        .setSearchText(mapData.get("searchTerm"))
-        .build();
+  /**
+   * Same rows as {@link #getData(Method)}, streamed from the data sheet while the tests already run. Rows are dispatched in
+   * parallel on TestNG's data provider thread pool (see data-provider-thread-count of the suite).
+   */
+  @DataProvider(name = LAZY_DATA_PROVIDER, parallel = true)
+  public static Iterator<Object[]> getDataLazily(Method method) {
+    return new StreamingTestDataIterator(FrameworkConstants.TEST_DATA_SHEET, method.getName(), getEntityType(method));
+  }
 
-      testData = TestData.builder()
-        .setLoginData(loginData)
-        .setSearchData(searchData)
-        .build();
+  /**
+   * Reads and indexes the data sheet ahead of the first data driven test. Does nothing with lazy_data_provider, which streams
+   * the sheet instead.
+   */
+  public static void preload() {
+    if (!PropertyUtils.getBooleanValue(ConfigProperties.LAZY_DATA_PROVIDER)) {
+      TestDataStore.getInstance();
     }
-    return new Object[][] {
-      {testData}
-    };
   }
-}
 
+  private static Class<?> getEntityType(Method method) {
+    return method.getParameterCount() > 0 ? method.getParameterTypes()[0] : TestData.class;
+  }
+}
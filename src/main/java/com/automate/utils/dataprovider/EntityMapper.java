@@ -0,0 +1,122 @@
+package com.automate.utils.dataprovider;
+
+import com.automate.customannotations.DataColumn;
+import com.automate.customannotations.DataEntity;
+import com.automate.customexceptions.FrameworkException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Builds entities straight from test data rows. Entity fields are mapped to columns through {@link DataColumn} and to nested
+ * entities through {@link DataEntity}. For a given header, the no-args constructor of the entity is composed with one field
+ * setter and array element getter per column into a single {@code (String[]) -> entity} method handle, so mapping a row
+ * allocates nothing but the entities themselves. Columns reach their fields by name, never by the declaration order that
+ * reflection does not guarantee.
+ *
+ * @param <T> entity type
+ */
+final class EntityMapper<T> {
+
+  private static final MethodHandle ROW_VALUE = MethodHandles.arrayElementGetter(String[].class);
+  private static final ClassValue<EntityTemplate> TEMPLATES = new ClassValue<>() {
+    @Override
+    protected EntityTemplate computeValue(Class<?> type) {
+      return new EntityTemplate(type);
+    }
+  };
+
+  private final Class<T> type;
+  private final MethodHandle mapper;
+
+  private EntityMapper(Class<T> type, MethodHandle mapper) {
+    this.type = type;
+    this.mapper = mapper;
+  }
+
+  static <T> EntityMapper<T> compile(Class<T> type, String[] header) {
+    Map<String, Integer> columns = new HashMap<>();
+    for (int i = 0; i < header.length; i++) {
+      columns.putIfAbsent(header[i], i);
+    }
+    return new EntityMapper<>(type, bind(type, columns).asType(MethodType.methodType(Object.class, String[].class)));
+  }
+
+  private static MethodHandle bind(Class<?> type, Map<String, Integer> columns) {
+    EntityTemplate template = TEMPLATES.get(type);
+    MethodHandle entity = MethodHandles.dropArguments(template.constructor, 0, String[].class);
+    MethodHandle returnEntity = MethodHandles.dropArguments(MethodHandles.identity(type), 1, String[].class);
+    for (int i = 0; i < template.fields.length; i++) {
+      Field field = template.fields[i];
+      DataColumn column = field.getAnnotation(DataColumn.class);
+      MethodHandle value;
+      if (field.isAnnotationPresent(DataEntity.class)) {
+        value = bind(field.getType(), columns);
+      } else if (Objects.nonNull(column) && columns.containsKey(column.value())) {
+        value = MethodHandles.insertArguments(ROW_VALUE, 1, columns.get(column.value()));
+      } else {
+        continue;
+      }
+      // (entity, row) -> entity with the field set to its value in the row
+      MethodHandle setField = MethodHandles.foldArguments(
+        returnEntity, MethodHandles.filterArguments(template.setters[i], 1, value));
+      entity = MethodHandles.foldArguments(setField, entity);
+    }
+    return entity;
+  }
+
+  T map(String[] row) {
+    try {
+      return type.cast((Object) mapper.invokeExact(row));
+    } catch (Throwable t) {
+      throw new FrameworkException("Unable to map the test data row to " + type.getSimpleName(), t);
+    }
+  }
+
+  /**
+   * Mapped fields with their setters and the no-args constructor of an entity class, resolved once per class.
+   */
+  private static final class EntityTemplate {
+
+    private final Field[] fields;
+    private final MethodHandle[] setters;
+    private final MethodHandle constructor;
+
+    private EntityTemplate(Class<?> type) {
+      fields = Arrays.stream(type.getDeclaredFields())
+        .filter(field -> !Modifier.isStatic(field.getModifiers()))
+        .toArray(Field[]::new);
+      setters = new MethodHandle[fields.length];
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      for (int i = 0; i < fields.length; i++) {
+        Field field = fields[i];
+        if (field.isAnnotationPresent(DataColumn.class) && field.getType() != String.class) {
+          throw new FrameworkException("@DataColumn field " + type.getSimpleName() + "." + field.getName() + " must be a String");
+        }
+        try {
+          field.setAccessible(true);
+          setters[i] = lookup.unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+          throw new FrameworkException("Test data entity field " + type.getSimpleName() + "." + field.getName()
+                                         + " must not be final", e);
+        }
+      }
+      try {
+        Constructor<?> noArgsConstructor = type.getDeclaredConstructor();
+        noArgsConstructor.setAccessible(true);
+        constructor = lookup.unreflectConstructor(noArgsConstructor);
+      } catch (NoSuchMethodException | IllegalAccessException e) {
+        throw new FrameworkException(
+          "Test data entity " + type.getSimpleName() + " needs a no-args constructor, e.g. from @NoArgsConstructor", e);
+      }
+    }
+  }
+}
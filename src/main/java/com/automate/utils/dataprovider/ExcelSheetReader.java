@@ -0,0 +1,117 @@
+package com.automate.utils.dataprovider;
+
+import com.automate.customexceptions.FrameworkException;
+import com.automate.customexceptions.InvalidPathException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Streams an xlsx sheet through POI's event model instead of loading the whole workbook. Only the row being parsed is
+ * held in memory, apart from the workbook's shared strings table.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ExcelSheetReader {
+
+  static void read(String filePath, String sheetName, SheetRowHandler handler) {
+    if (!new File(filePath).isFile()) {
+      throw new InvalidPathException("Excel File you trying to read is not found");
+    }
+    try (OPCPackage workbook = OPCPackage.open(filePath, PackageAccess.READ)) {
+      XSSFReader reader = new XSSFReader(workbook);
+      ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(workbook, false);
+      XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+      while (sheets.hasNext()) {
+        try (InputStream sheet = sheets.next()) {
+          if (sheets.getSheetName().equals(sheetName)) {
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), sharedStrings,
+                                                             new RowCollector(handler), new DataFormatter(), false));
+            parser.parse(new InputSource(sheet));
+            return;
+          }
+        }
+      }
+      throw new FrameworkException("Sheet - " + sheetName + " is not found in the excel file");
+    } catch (IOException | OpenXML4JException e) {
+      throw new FrameworkException("IOException happened while reading excel file", e);
+    } catch (SAXException | ParserConfigurationException e) {
+      throw new FrameworkException("Unable to parse the sheet - " + sheetName + " in the excel file", e);
+    }
+  }
+
+  /**
+   * Collects the cells of the current row and hands the completed row over to the {@link SheetRowHandler}.
+   * The first row is treated as the header and its values are interned.
+   */
+  private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+    private final SheetRowHandler handler;
+    private String[] header;
+    private String[] row;
+    private boolean rowHasValue;
+
+    private RowCollector(SheetRowHandler handler) {
+      this.handler = handler;
+    }
+
+    @Override
+    public void startRow(int rowNum) {
+      row = header == null ? new String[0] : new String[header.length];
+      rowHasValue = false;
+    }
+
+    @Override
+    public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+      int column = new CellReference(cellReference).getCol();
+      if (header == null) {
+        if (column >= row.length) {
+          row = Arrays.copyOf(row, column + 1);
+        }
+      } else if (column >= row.length) {
+        return;
+      }
+      row[column] = formattedValue;
+      rowHasValue = true;
+    }
+
+    @Override
+    public void endRow(int rowNum) {
+      if (!rowHasValue) {
+        return;
+      }
+      if (header == null) {
+        header = row;
+        for (int i = 0; i < header.length; i++) {
+          header[i] = header[i] == null ? "" : header[i].intern();
+        }
+        handler.onHeader(header);
+        return;
+      }
+      for (int i = 0; i < row.length; i++) {
+        if (row[i] == null) {
+          row[i] = "";
+        }
+      }
+      handler.onRow(row);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package com.automate.utils.dataprovider;
+
+import com.automate.enums.ConfigProperties;
+import com.automate.utils.configloader.PropertyUtils;
+
+/**
+ * Reads xlsx workbooks, through the binary snapshot cache when test_data_cache is enabled.
+ */
+final class ExcelTestDataSource implements TestDataSource {
+
+  private final String filePath;
+
+  ExcelTestDataSource(String filePath) {
+    this.filePath = filePath;
+  }
+
+  @Override
+  public void read(String tableName, SheetRowHandler handler) {
+    if (PropertyUtils.getBooleanValue(ConfigProperties.TEST_DATA_CACHE)) {
+      TestDataCache.read(filePath, tableName, handler);
+    } else {
+      ExcelSheetReader.read(filePath, tableName, handler);
+    }
+  }
+
+  @Override
+  public void readTestCase(String tableName, String testCaseName, SheetRowHandler handler) {
+    if (PropertyUtils.getBooleanValue(ConfigProperties.TEST_DATA_CACHE)) {
+      TestDataCache.readTestCase(filePath, tableName, testCaseName, handler);
+    } else {
+      TestDataSource.super.readTestCase(tableName, testCaseName, handler);
+    }
+  }
+}
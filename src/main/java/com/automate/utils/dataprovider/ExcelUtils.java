@@ -1,16 +1,9 @@
 package com.automate.utils.dataprovider;
 
 import com.automate.constants.FrameworkConstants;
-import com.automate.customexceptions.FrameworkException;
-import com.automate.customexceptions.InvalidPathException;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -19,35 +12,42 @@ import java.util.Map;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ExcelUtils {
 
-  public static List<Map<String, String>> getTestDetails(String sheetName) {
-    List<Map<String, String>> list;
+  private static final TestDataSource TEST_DATA_WORKBOOK = new ExcelTestDataSource(FrameworkConstants.TEST_DATA_FILEPATH);
+
+  /**
+   * Streams the rows of the given sheet of the test data workbook to the handler, one row at a time. With test_data_cache
+   * enabled the rows come from the binary snapshot of the sheet as long as the workbook is unchanged.
+   */
+  public static void readSheet(String sheetName, SheetRowHandler handler) {
+    TEST_DATA_WORKBOOK.read(sheetName, handler);
+  }
 
-    try (FileInputStream fs = new FileInputStream(FrameworkConstants.TEST_DATA_FILEPATH);
-         XSSFWorkbook workbook = new XSSFWorkbook(fs)) {
-      XSSFSheet sheet = workbook.getSheet(sheetName);
+  /**
+   * Streams only the rows of the given sheet whose TestCaseName matches (case-insensitive).
+   */
+  public static void readTestCaseRows(String sheetName, String testCaseName, SheetRowHandler handler) {
+    TEST_DATA_WORKBOOK.readTestCase(sheetName, testCaseName, handler);
+  }
 
-      int lastRowNum = sheet.getLastRowNum();
-      int lastColNum = sheet.getRow(0).getLastCellNum();
+  public static List<Map<String, String>> getTestDetails(String sheetName) {
+    List<Map<String, String>> list = new ArrayList<>();
+    readSheet(sheetName, new SheetRowHandler() {
+      private String[] columns;
 
-      Map<String, String> map;
-      list = new ArrayList<>();
+      @Override
+      public void onHeader(String[] columns) {
+        this.columns = columns;
+      }
 
-      for (int i = 1; i <= lastRowNum; i++) {
-        map = new HashMap<>();
-        for (int j = 0; j < lastColNum; j++) {
-          String key = sheet.getRow(0).getCell(j).getStringCellValue();
-          String value = sheet.getRow(i).getCell(j).getStringCellValue();
-          map.put(key, value);
+      @Override
+      public void onRow(String[] values) {
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < columns.length; i++) {
+          map.put(columns[i], values[i]);
         }
         list.add(map);
       }
-    } catch (FileNotFoundException e) {
-      throw new InvalidPathException("Excel File you trying to read is not found");
-    } catch (IOException e) {
-      throw new FrameworkException("IOException happened while reading excel file");
-    }
+    });
     return list;
   }
-
-
 }
@@ -0,0 +1,125 @@
+package com.automate.utils.dataprovider;
+
+import com.automate.customexceptions.FrameworkException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Reads JSON Lines files, one flat json object per row. The keys of the first object form the header, keys that are not part
+ * of it are ignored and missing keys read as empty strings. The memory-mapped file is parsed as a stream of root values and
+ * an object is dropped as soon as its TestCaseName does not match. A JSON Lines file holds a single table, so the table
+ * name is ignored.
+ */
+final class JsonLinesTestDataSource implements TestDataSource {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final String filePath;
+
+  JsonLinesTestDataSource(String filePath) {
+    this.filePath = filePath;
+  }
+
+  @Override
+  public void read(String tableName, SheetRowHandler handler) {
+    parse(handler, null);
+  }
+
+  @Override
+  public void readTestCase(String tableName, String testCaseName, SheetRowHandler handler) {
+    parse(handler, testCaseName);
+  }
+
+  private void parse(SheetRowHandler handler, String testCaseName) {
+    try (JsonParser parser = JSON_FACTORY.createParser(new ByteBufferBackedInputStream(TestDataSources.mapReadOnly(filePath)))) {
+      Map<String, Integer> header = null;
+      String[] row;
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        if (Objects.isNull(header)) {
+          List<String> columns = new ArrayList<>();
+          row = readFirstObject(parser, columns);
+          header = new HashMap<>();
+          for (int i = 0; i < columns.size(); i++) {
+            header.putIfAbsent(columns.get(i), i);
+          }
+          handler.onHeader(columns.toArray(new String[0]));
+        } else {
+          row = readObject(parser, header, testCaseName);
+        }
+        if (Objects.nonNull(row) && matches(header, row, testCaseName)) {
+          handler.onRow(row);
+        }
+      }
+    } catch (IOException e) {
+      throw new FrameworkException("Unable to parse the JSON Lines test data file " + filePath, e);
+    }
+  }
+
+  private static String[] readFirstObject(JsonParser parser, List<String> header) throws IOException {
+    List<String> values = new ArrayList<>();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      header.add(parser.getCurrentName().intern());
+      values.add(readValue(parser));
+    }
+    return values.toArray(new String[0]);
+  }
+
+  /**
+   * @return the row or null when the object was skipped because its TestCaseName does not match
+   */
+  private static String[] readObject(JsonParser parser, Map<String, Integer> header, String testCaseName) throws IOException {
+    String[] row = new String[header.size()];
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.getCurrentName();
+      Integer column = header.get(name);
+      String value = readValue(parser);
+      if (Objects.nonNull(testCaseName) && TestDataSource.TEST_CASE_NAME_COLUMN.equals(name)
+        && !testCaseName.equalsIgnoreCase(value)) {
+        skipRestOfObject(parser);
+        return null;
+      }
+      if (Objects.nonNull(column)) {
+        row[column] = value;
+      }
+    }
+    for (int i = 0; i < row.length; i++) {
+      if (Objects.isNull(row[i])) {
+        row[i] = "";
+      }
+    }
+    return row;
+  }
+
+  private static String readValue(JsonParser parser) throws IOException {
+    JsonToken token = parser.nextToken();
+    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return "";
+    }
+    return token == JsonToken.VALUE_NULL ? "" : parser.getText();
+  }
+
+  private static void skipRestOfObject(JsonParser parser) throws IOException {
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      parser.nextToken();
+      parser.skipChildren();
+    }
+  }
+
+  private static boolean matches(Map<String, Integer> header, String[] row, String testCaseName) {
+    if (Objects.isNull(testCaseName)) {
+      return true;
+    }
+    Integer column = header.get(TestDataSource.TEST_CASE_NAME_COLUMN);
+    return Objects.nonNull(column) && testCaseName.equalsIgnoreCase(row[column]);
+  }
+}
@@ -0,0 +1,12 @@
+package com.automate.utils.dataprovider;
+
+/**
+ * Receives the rows of a data sheet as they are read. The header is delivered once before the first data row and every
+ * row array is aligned with the header columns, missing cells being empty strings.
+ */
+public interface SheetRowHandler {
+
+  void onHeader(String[] columns);
+
+  void onRow(String[] values);
+}
@@ -0,0 +1,197 @@
+package com.automate.utils.dataprovider;
+
+import com.automate.customexceptions.FrameworkException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Data provider iterator that reads the data sheet on a background thread and hands over the rows of one test case through
+ * a bounded queue. Rows become available as soon as they are parsed and are mapped to the entity type of the test method
+ * only when TestNG consumes them.
+ * <p>
+ * The readers share a fixed pool of daemon threads and never wait for room in the queue: a reader whose queue is full
+ * suspends and gives its thread back, and the iterator resumes it after the rows it already delivered once half of the
+ * queue was consumed. So an iterator TestNG stops consuming, e.g. after a failed before method, holds no thread, and one
+ * that is consumed slowly still gets every row. {@link #close()} stops the reader right away.
+ */
+final class StreamingTestDataIterator implements Iterator<Object[]>, AutoCloseable {
+
+  private static final int QUEUE_CAPACITY = 64;
+  private static final int READER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+  private static final int RESUME_THRESHOLD = QUEUE_CAPACITY / 2;
+  private static final String[] END_OF_SHEET = new String[0];
+  private static final ExecutorService READERS = newReaderExecutor();
+
+  private final SheetReader reader;
+  private String[] next;
+  private boolean anyRowReturned;
+  private boolean closed;
+
+  StreamingTestDataIterator(String sheetName, String testCaseName, Class<?> entityType) {
+    reader = new SheetReader(sheetName, testCaseName, entityType);
+    READERS.execute(reader);
+  }
+
+  private static ExecutorService newReaderExecutor() {
+    AtomicInteger threadNumber = new AtomicInteger();
+    return Executors.newFixedThreadPool(READER_THREADS, runnable -> {
+      Thread thread = new Thread(runnable, "test-data-reader-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (closed) {
+      return false;
+    }
+    if (Objects.isNull(next)) {
+      next = take();
+    }
+    if (Objects.nonNull(reader.failure)) {
+      close();
+      throw reader.failure;
+    }
+    // Keep the eager provider's behaviour of a single null invocation for test cases without data
+    if (next == END_OF_SHEET && anyRowReturned) {
+      close();
+      return false;
+    }
+    return true;
+  }
+
+  private String[] take() {
+    // the suspended flag is set last, so the queue holds every row the reader delivered before it
+    if (reader.suspended && reader.rows.size() <= RESUME_THRESHOLD) {
+      reader.suspended = false;
+      READERS.execute(reader);
+    }
+    try {
+      // a running reader only suspends on a full queue, so an empty one always gets another row
+      return reader.rows.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FrameworkException("Interrupted while waiting for the test data", e);
+    }
+  }
+
+  @Override
+  public Object[] next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    anyRowReturned = true;
+    if (next == END_OF_SHEET) {
+      close();
+      return new Object[] {null};
+    }
+    String[] row = next;
+    next = null;
+    return new Object[] {reader.mapper.map(row)};
+  }
+
+  /**
+   * Stops the reader and drops the rows it read ahead. The iterator has no further rows.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    reader.closed = true;
+    reader.rows.clear();
+  }
+
+  /**
+   * Reads the rows of the test case into the queue, skipping those it delivered before it was suspended, until the sheet
+   * ends, the queue is full or the iterator is closed.
+   */
+  private static final class SheetReader implements Runnable {
+
+    private final BlockingQueue<String[]> rows = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final String sheetName;
+    private final String testCaseName;
+    private final Class<?> entityType;
+    private volatile EntityMapper<?> mapper;
+    private volatile RuntimeException failure;
+    private volatile boolean closed;
+    private volatile boolean suspended;
+    private int delivered;
+
+    private SheetReader(String sheetName, String testCaseName, Class<?> entityType) {
+      this.sheetName = sheetName;
+      this.testCaseName = testCaseName;
+      this.entityType = entityType;
+    }
+
+    @Override
+    public void run() {
+      if (closed) {
+        return;
+      }
+      QueueingRowHandler handler = new QueueingRowHandler(delivered);
+      try {
+        TestDataSources.getDefault().readTestCase(sheetName, testCaseName, handler);
+      } catch (RuntimeException e) {
+        // the sheet readers may wrap the cancellation of a stopped reader, which needs no report
+        if (handler.stopped) {
+          return;
+        }
+        failure = e;
+      }
+      put(END_OF_SHEET);
+    }
+
+    /**
+     * @return false when the reader was closed, or suspended as the queue is full, before the row was queued
+     */
+    private boolean put(String[] row) {
+      if (closed) {
+        return false;
+      }
+      if (rows.offer(row)) {
+        return true;
+      }
+      suspended = true;
+      return false;
+    }
+
+    /**
+     * Queues the rows of one run of the reader after skipping the ones earlier runs delivered.
+     */
+    private final class QueueingRowHandler implements SheetRowHandler {
+
+      private final int alreadyDelivered;
+      private int skipped;
+      private boolean stopped;
+
+      private QueueingRowHandler(int alreadyDelivered) {
+        this.alreadyDelivered = alreadyDelivered;
+      }
+
+      @Override
+      public void onHeader(String[] columns) {
+        mapper = EntityMapper.compile(entityType, columns);
+      }
+
+      @Override
+      public void onRow(String[] values) {
+        if (skipped < alreadyDelivered) {
+          skipped++;
+        } else if (put(values)) {
+          delivered++;
+        } else {
+          stopped = true;
+          throw new CancellationException("Test data reader of " + testCaseName + " stopped");
+        }
+      }
+    }
+  }
+}
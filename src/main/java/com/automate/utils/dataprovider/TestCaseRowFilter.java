@@ -0,0 +1,31 @@
+package com.automate.utils.dataprovider;
+
+import java.util.List;
+
+/**
+ * Forwards only the rows whose TestCaseName matches (case-insensitive) to the delegate handler.
+ */
+final class TestCaseRowFilter implements SheetRowHandler {
+
+  private final String testCaseName;
+  private final SheetRowHandler delegate;
+  private int testCaseColumn = -1;
+
+  TestCaseRowFilter(String testCaseName, SheetRowHandler delegate) {
+    this.testCaseName = testCaseName;
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void onHeader(String[] columns) {
+    testCaseColumn = List.of(columns).indexOf(TestDataSource.TEST_CASE_NAME_COLUMN);
+    delegate.onHeader(columns);
+  }
+
+  @Override
+  public void onRow(String[] values) {
+    if (testCaseColumn >= 0 && values[testCaseColumn].equalsIgnoreCase(testCaseName)) {
+      delegate.onRow(values);
+    }
+  }
+}
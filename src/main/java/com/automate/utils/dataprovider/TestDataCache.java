@@ -0,0 +1,404 @@
+package com.automate.utils.dataprovider;
+
+import com.automate.constants.FrameworkConstants;
+import com.automate.customexceptions.FrameworkException;
+import com.automate.customexceptions.InvalidPathException;
+import com.automate.utils.TestUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Binary snapshot of a parsed data sheet, keyed by the SHA-256 of the workbook, so that Apache POI is only loaded when the
+ * workbook changed. Snapshots are read back through a memory-mapped buffer.
+ * <p>
+ * Layout (big-endian): magic, version, string table (count, then length-prefixed UTF-8 strings), header (column count and
+ * string ids), rows (count, absolute offset of every row, then column count string ids per row) and the TestCaseName index
+ * (entry count, then the lower-cased name id, row count and row numbers of every entry), followed by the CRC32 of everything
+ * before it as a long.
+ * <p>
+ * The hash of a workbook is kept with the size and modification time the workbook had, and every loaded snapshot is kept
+ * mapped, so reading the sheet again, e.g. once per test method with lazy_data_provider, neither reads the workbook nor checks
+ * the snapshot again until the workbook changes.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class TestDataCache {
+
+  private static final int MAGIC = 0x54444331;
+  private static final int VERSION = 2;
+  private static final String EXTENSION = ".bin";
+  private static final Map<String, WorkbookVersion> WORKBOOK_VERSIONS = new ConcurrentHashMap<>();
+  private static final Map<Path, Snapshot> SNAPSHOTS = new ConcurrentHashMap<>();
+
+  /**
+   * Streams the sheet to the handler from the snapshot if one exists for the current workbook content, otherwise parses
+   * the workbook and writes a new snapshot.
+   */
+  static void read(String workbookPath, String sheetName, SheetRowHandler handler) {
+    Path snapshot = getSnapshotPath(workbookPath, sheetName);
+    Optional<Snapshot> cached = getSnapshot(snapshot);
+    if (cached.isPresent()) {
+      cached.get().read(handler, null);
+    } else {
+      readWorkbook(workbookPath, sheetName, snapshot, handler);
+    }
+  }
+
+  /**
+   * Streams only the rows whose TestCaseName matches (case-insensitive), using the snapshot index when available.
+   */
+  static void readTestCase(String workbookPath, String sheetName, String testCaseName, SheetRowHandler handler) {
+    Path snapshot = getSnapshotPath(workbookPath, sheetName);
+    Optional<Snapshot> cached = getSnapshot(snapshot);
+    if (cached.isPresent()) {
+      cached.get().read(handler, testCaseName.toLowerCase(Locale.ROOT));
+    } else {
+      readWorkbook(workbookPath, sheetName, snapshot, new TestCaseRowFilter(testCaseName, handler));
+    }
+  }
+
+  private static void readWorkbook(String workbookPath, String sheetName, Path snapshot, SheetRowHandler handler) {
+    SnapshotWriter writer = new SnapshotWriter(handler);
+    ExcelSheetReader.read(workbookPath, sheetName, writer);
+    writer.write(snapshot, sheetName);
+  }
+
+  private static Path getSnapshotPath(String workbookPath, String sheetName) {
+    return Paths.get(FrameworkConstants.TEST_DATA_CACHE_PATH, sheetName + "-" + hash(workbookPath) + EXTENSION);
+  }
+
+  /**
+   * @return the snapshot loaded earlier or, when there is none yet, the one on disk
+   */
+  private static Optional<Snapshot> getSnapshot(Path path) {
+    Snapshot snapshot = SNAPSHOTS.get(path);
+    if (Objects.isNull(snapshot)) {
+      snapshot = Snapshot.load(path).orElse(null);
+      if (Objects.nonNull(snapshot)) {
+        // threads loading the same snapshot at once load the same content
+        SNAPSHOTS.put(path, snapshot);
+      }
+    }
+    return Optional.ofNullable(snapshot);
+  }
+
+  /**
+   * @return the SHA-256 of the workbook, computed again only when its size or modification time changed
+   */
+  private static String hash(String workbookPath) {
+    BasicFileAttributes attributes;
+    try {
+      attributes = Files.readAttributes(Paths.get(workbookPath), BasicFileAttributes.class);
+    } catch (IOException e) {
+      throw new InvalidPathException("Excel File you trying to read is not found");
+    }
+    if (!attributes.isRegularFile()) {
+      throw new InvalidPathException("Excel File you trying to read is not found");
+    }
+    WorkbookVersion version = WORKBOOK_VERSIONS.get(workbookPath);
+    if (Objects.nonNull(version) && version.matches(attributes)) {
+      return version.hash;
+    }
+    String hash = computeHash(workbookPath);
+    WORKBOOK_VERSIONS.put(workbookPath, new WorkbookVersion(attributes, hash));
+    if (Objects.nonNull(version) && !version.hash.equals(hash)) {
+      SNAPSHOTS.keySet().removeIf(path -> path.getFileName().toString().contains(version.hash));
+    }
+    return hash;
+  }
+
+  private static String computeHash(String workbookPath) {
+    try (InputStream input = new DigestInputStream(Files.newInputStream(Paths.get(workbookPath)),
+                                                   MessageDigest.getInstance("SHA-256"))) {
+      byte[] buffer = new byte[8192];
+      while (input.read(buffer) != -1) {
+        // Reading the stream feeds the digest
+      }
+      StringBuilder hex = new StringBuilder();
+      for (byte b : ((DigestInputStream) input).getMessageDigest().digest()) {
+        hex.append(String.format("%02x", b));
+      }
+      return hex.toString();
+    } catch (IOException | NoSuchAlgorithmException e) {
+      throw new FrameworkException("Unable to compute the hash of the test data workbook", e);
+    }
+  }
+
+  /**
+   * Hash of a workbook with the size and modification time it had when it was hashed.
+   */
+  private static final class WorkbookVersion {
+
+    private final long size;
+    private final FileTime lastModified;
+    private final String hash;
+
+    private WorkbookVersion(BasicFileAttributes attributes, String hash) {
+      this.size = attributes.size();
+      this.lastModified = attributes.lastModifiedTime();
+      this.hash = hash;
+    }
+
+    private boolean matches(BasicFileAttributes attributes) {
+      return size == attributes.size() && lastModified.equals(attributes.lastModifiedTime());
+    }
+  }
+
+  /**
+   * Snapshot mapped and checked as a whole before any of it reaches a handler: every string id, row offset and index entry
+   * lies within the file, so a corrupt or truncated snapshot is ignored instead of delivering part of the sheet.
+   */
+  private static final class Snapshot {
+
+    private final ByteBuffer buffer;
+    private final String[] strings;
+    private final String[] header;
+    private final int rowCount;
+    private final int offsetsPosition;
+    private final Map<String, int[]> rowsByTestCaseName = new HashMap<>();
+
+    private Snapshot(ByteBuffer buffer) {
+      this.buffer = buffer;
+      int checksumPosition = buffer.limit() - Long.BYTES;
+      CRC32 crc = new CRC32();
+      crc.update(buffer.duplicate().limit(checksumPosition));
+      if (crc.getValue() != buffer.getLong(checksumPosition)) {
+        throw new IllegalStateException("Checksum mismatch");
+      }
+      buffer.limit(checksumPosition);
+      if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+        throw new IllegalStateException("Unsupported test data cache format");
+      }
+      strings = new String[checkCount(buffer.getInt())];
+      for (int i = 0; i < strings.length; i++) {
+        byte[] bytes = new byte[checkCount(buffer.getInt())];
+        buffer.get(bytes);
+        strings[i] = new String(bytes, StandardCharsets.UTF_8);
+      }
+      header = new String[checkCount(buffer.getInt())];
+      for (int i = 0; i < header.length; i++) {
+        header[i] = getString(buffer.getInt()).intern();
+      }
+      rowCount = checkCount(buffer.getInt());
+      offsetsPosition = buffer.position();
+      for (int row = 0; row < rowCount; row++) {
+        int offset = buffer.getInt(offsetsPosition + row * Integer.BYTES);
+        for (int column = 0; column < header.length; column++) {
+          getString(buffer.getInt(offset + column * Integer.BYTES));
+        }
+      }
+      buffer.position(offsetsPosition + rowCount * Integer.BYTES + rowCount * header.length * Integer.BYTES);
+      readIndex();
+      if (buffer.hasRemaining()) {
+        throw new IllegalStateException("Unexpected data after the test case index");
+      }
+    }
+
+    /**
+     * @return the snapshot, empty when there is none or it cannot be read
+     */
+    private static Optional<Snapshot> load(Path snapshot) {
+      if (!Files.isRegularFile(snapshot)) {
+        return Optional.empty();
+      }
+      try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+        return Optional.of(new Snapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())));
+      } catch (IOException | RuntimeException e) {
+        TestUtils.log().warn("Ignoring unreadable test data cache {}", snapshot, e);
+        return Optional.empty();
+      }
+    }
+
+    private void readIndex() {
+      int entries = checkCount(buffer.getInt());
+      for (int entry = 0; entry < entries; entry++) {
+        String name = getString(buffer.getInt());
+        int[] rows = new int[checkCount(buffer.getInt())];
+        for (int i = 0; i < rows.length; i++) {
+          rows[i] = buffer.getInt();
+          if (rows[i] < 0 || rows[i] >= rowCount) {
+            throw new IllegalStateException("Row " + rows[i] + " of the test case index is out of range");
+          }
+        }
+        rowsByTestCaseName.put(name, rows);
+      }
+    }
+
+    /**
+     * Streams all rows, or only those of the lower-cased test case name when it is not null.
+     */
+    private void read(SheetRowHandler handler, String testCaseName) {
+      handler.onHeader(header);
+      if (Objects.isNull(testCaseName)) {
+        for (int row = 0; row < rowCount; row++) {
+          handler.onRow(readRow(row));
+        }
+        return;
+      }
+      for (int row : rowsByTestCaseName.getOrDefault(testCaseName, new int[0])) {
+        handler.onRow(readRow(row));
+      }
+    }
+
+    private String[] readRow(int row) {
+      int offset = buffer.getInt(offsetsPosition + row * Integer.BYTES);
+      String[] values = new String[header.length];
+      for (int column = 0; column < header.length; column++) {
+        values[column] = strings[buffer.getInt(offset + column * Integer.BYTES)];
+      }
+      return values;
+    }
+
+    private String getString(int id) {
+      if (id < 0 || id >= strings.length) {
+        throw new IllegalStateException("String id " + id + " is out of range");
+      }
+      return strings[id];
+    }
+
+    private int checkCount(int count) {
+      if (count < 0 || count > buffer.remaining()) {
+        throw new IllegalStateException("Count " + count + " exceeds the test data cache");
+      }
+      return count;
+    }
+  }
+
+  /**
+   * Forwards the rows read from the workbook to the handler while collecting them for the snapshot.
+   */
+  private static final class SnapshotWriter implements SheetRowHandler {
+
+    private final SheetRowHandler handler;
+    private final Map<String, Integer> stringIds = new LinkedHashMap<>();
+    private final List<int[]> rows = new ArrayList<>();
+    private final Map<String, List<Integer>> rowsByTestCaseName = new HashMap<>();
+    private int[] header = new int[0];
+    private int testCaseColumn = -1;
+
+    private SnapshotWriter(SheetRowHandler handler) {
+      this.handler = handler;
+    }
+
+    @Override
+    public void onHeader(String[] columns) {
+      header = toIds(columns);
+      testCaseColumn = Arrays.asList(columns).indexOf(TestDataSource.TEST_CASE_NAME_COLUMN);
+      handler.onHeader(columns);
+    }
+
+    @Override
+    public void onRow(String[] values) {
+      if (testCaseColumn >= 0) {
+        rowsByTestCaseName.computeIfAbsent(values[testCaseColumn].toLowerCase(Locale.ROOT), key -> new ArrayList<>())
+          .add(rows.size());
+      }
+      rows.add(toIds(values));
+      handler.onRow(values);
+    }
+
+    private int[] toIds(String[] values) {
+      int[] ids = new int[values.length];
+      for (int i = 0; i < values.length; i++) {
+        ids[i] = stringIds.computeIfAbsent(values[i], key -> stringIds.size());
+      }
+      return ids;
+    }
+
+    /**
+     * Writes the snapshot to a temporary file and moves it in place, then removes snapshots of older workbook versions.
+     * Failures only cost the cache, never the test run.
+     */
+    private void write(Path snapshot, String sheetName) {
+      rowsByTestCaseName.keySet().forEach(name -> stringIds.computeIfAbsent(name, key -> stringIds.size()));
+      try {
+        Files.createDirectories(snapshot.getParent());
+        Path temporary = Files.createTempFile(snapshot.getParent(), sheetName, ".tmp");
+        try (CheckedOutputStream checked = new CheckedOutputStream(Files.newOutputStream(temporary), new CRC32());
+             DataOutputStream output = new DataOutputStream(checked)) {
+          writeTo(output);
+          output.flush();
+          output.writeLong(checked.getChecksum().getValue());
+        }
+        Files.move(temporary, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        deleteStaleSnapshots(snapshot, sheetName);
+      } catch (IOException e) {
+        TestUtils.log().warn("Unable to write the test data cache {}", snapshot, e);
+      }
+    }
+
+    private void writeTo(DataOutputStream output) throws IOException {
+      output.writeInt(MAGIC);
+      output.writeInt(VERSION);
+      output.writeInt(stringIds.size());
+      for (String value : stringIds.keySet()) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+      }
+      output.writeInt(header.length);
+      writeInts(output, header);
+      output.writeInt(rows.size());
+      int offset = output.size() + rows.size() * Integer.BYTES;
+      for (int i = 0; i < rows.size(); i++) {
+        output.writeInt(offset + i * header.length * Integer.BYTES);
+      }
+      for (int[] row : rows) {
+        writeInts(output, row);
+      }
+      output.writeInt(rowsByTestCaseName.size());
+      for (Map.Entry<String, List<Integer>> entry : rowsByTestCaseName.entrySet()) {
+        output.writeInt(stringIds.get(entry.getKey()));
+        output.writeInt(entry.getValue().size());
+        for (int row : entry.getValue()) {
+          output.writeInt(row);
+        }
+      }
+    }
+
+    private static void writeInts(DataOutputStream output, int[] values) throws IOException {
+      for (int value : values) {
+        output.writeInt(value);
+      }
+    }
+
+    private static void deleteStaleSnapshots(Path snapshot, String sheetName) throws IOException {
+      try (Stream<Path> files = Files.list(snapshot.getParent())) {
+        Pattern snapshotName = Pattern.compile(Pattern.quote(sheetName) + "-[0-9a-f]{64}" + Pattern.quote(EXTENSION));
+        files.filter(file -> !file.equals(snapshot))
+          .filter(file -> snapshotName.matcher(file.getFileName().toString()).matches())
+          .forEach(file -> file.toFile().delete());
+      }
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package com.automate.utils.dataprovider;
+
+/**
+ * Source of test data rows for the data providers. Implementations stream the rows of a table (a sheet for Excel, the
+ * whole file for single-table formats) to a {@link SheetRowHandler}.
+ */
+public interface TestDataSource {
+
+  String TEST_CASE_NAME_COLUMN = "TestCaseName";
+
+  void read(String tableName, SheetRowHandler handler);
+
+  /**
+   * Streams only the rows whose TestCaseName matches (case-insensitive). Sources that can skip rows cheaply override this.
+   */
+  default void readTestCase(String tableName, String testCaseName, SheetRowHandler handler) {
+    read(tableName, new TestCaseRowFilter(testCaseName, handler));
+  }
+}
@@ -0,0 +1,72 @@
+package com.automate.utils.dataprovider;
+
+import com.automate.constants.FrameworkConstants;
+import com.automate.customexceptions.FrameworkException;
+import com.automate.customexceptions.InvalidPathException;
+import com.automate.enums.ConfigProperties;
+import com.automate.utils.configloader.PropertyUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the {@link TestDataSource} of a test data file from its extension: xlsx, csv or jsonl (JSON Lines).
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TestDataSources {
+
+  private static final Map<String, TestDataSource> SOURCES = new ConcurrentHashMap<>();
+
+  /**
+   * @return the source of the file configured by test_data_file, relative to the test resources directory
+   */
+  public static TestDataSource getDefault() {
+    String testDataFile = PropertyUtils.getPropertyValue(ConfigProperties.TEST_DATA_FILE);
+    return forPath(FrameworkConstants.TEST_RESOURCES_DIR + File.separator + testDataFile);
+  }
+
+  public static TestDataSource forPath(String filePath) {
+    return SOURCES.computeIfAbsent(filePath, TestDataSources::create);
+  }
+
+  private static TestDataSource create(String filePath) {
+    String extension = filePath.substring(filePath.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+    switch (extension) {
+      case "xlsx":
+        return new ExcelTestDataSource(filePath);
+      case "csv":
+        return new CsvTestDataSource(filePath);
+      case "jsonl":
+      case "ndjson":
+        return new JsonLinesTestDataSource(filePath);
+      default:
+        throw new FrameworkException("Test data file type - " + extension + " is not supported. Use xlsx, csv or jsonl");
+    }
+  }
+
+  /**
+   * Maps the whole file read-only. Files are expected to stay below 2 GB.
+   */
+  static MappedByteBuffer mapReadOnly(String filePath) {
+    if (!new File(filePath).isFile()) {
+      throw new InvalidPathException("Test data file " + filePath + " is not found");
+    }
+    try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new FrameworkException("Test data file " + filePath + " is larger than 2 GB");
+      }
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    } catch (IOException e) {
+      throw new FrameworkException("IOException happened while reading test data file " + filePath, e);
+    }
+  }
+}
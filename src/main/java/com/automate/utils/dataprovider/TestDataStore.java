@@ -0,0 +1,94 @@
+package com.automate.utils.dataprovider;
+
+import com.automate.constants.FrameworkConstants;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rows of the configured test data source indexed by TestCaseName (case-insensitive). The table is read once, when the store
+ * is first used. The invocations of a test case are mapped to the entity type requested by the test method on first use and
+ * kept, so later lookups neither parse nor map again. The load is synchronized and published through a volatile field, so
+ * parallel tests share a single load; a load that fails throws its cause to the caller and is tried again on the next use.
+ */
+final class TestDataStore {
+
+  private static final Object[][] NO_DATA = {{null}};
+  private static volatile TestDataStore instance;
+
+  private final String[] header;
+  private final Map<String, String[][]> rowsByTestCaseName;
+  private final Map<Class<?>, EntityMapper<?>> mappers = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Map<String, Object[][]>> invocations = new ConcurrentHashMap<>();
+
+  private TestDataStore(String[] header, Map<String, String[][]> rowsByTestCaseName) {
+    this.header = header;
+    this.rowsByTestCaseName = rowsByTestCaseName;
+  }
+
+  static TestDataStore getInstance() {
+    TestDataStore store = instance;
+    if (Objects.isNull(store)) {
+      synchronized (TestDataStore.class) {
+        store = instance;
+        if (Objects.isNull(store)) {
+          store = load(FrameworkConstants.TEST_DATA_SHEET);
+          instance = store;
+        }
+      }
+    }
+    return store;
+  }
+
+  /**
+   * @return one data provider invocation per matching row, holding the row mapped to {@code entityType}. The returned array
+   * is shared and must not be modified.
+   */
+  Object[][] getRows(String testCaseName, Class<?> entityType) {
+    return invocations.computeIfAbsent(entityType, type -> new ConcurrentHashMap<>())
+      .computeIfAbsent(testCaseName, name -> map(name, entityType));
+  }
+
+  private Object[][] map(String testCaseName, Class<?> entityType) {
+    String[][] rows = rowsByTestCaseName.get(testCaseName.toLowerCase(Locale.ROOT));
+    if (Objects.isNull(rows)) {
+      return NO_DATA;
+    }
+    EntityMapper<?> mapper = mappers.computeIfAbsent(entityType, type -> EntityMapper.compile(type, header));
+    Object[][] mapped = new Object[rows.length][];
+    for (int i = 0; i < rows.length; i++) {
+      mapped[i] = new Object[] {mapper.map(rows[i])};
+    }
+    return mapped;
+  }
+
+  private static TestDataStore load(String sheetName) {
+    Map<String, List<String[]>> rows = new HashMap<>();
+    String[][] header = {new String[0]};
+    TestDataSources.getDefault().read(sheetName, new SheetRowHandler() {
+      private int testCaseColumn = -1;
+
+      @Override
+      public void onHeader(String[] columns) {
+        header[0] = columns;
+        testCaseColumn = List.of(columns).indexOf(TestDataSource.TEST_CASE_NAME_COLUMN);
+      }
+
+      @Override
+      public void onRow(String[] values) {
+        if (testCaseColumn >= 0) {
+          rows.computeIfAbsent(values[testCaseColumn].toLowerCase(Locale.ROOT), key -> new ArrayList<>()).add(values);
+        }
+      }
+    });
+
+    Map<String, String[][]> index = new HashMap<>();
+    rows.forEach((name, testCaseRows) -> index.put(name, testCaseRows.toArray(new String[0][])));
+    return new TestDataStore(header[0], index);
+  }
+}
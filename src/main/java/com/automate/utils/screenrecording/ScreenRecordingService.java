@@ -9,15 +9,21 @@ import lombok.NoArgsConstructor;
 public final class ScreenRecordingService {
 
   public static void startRecording() {
-    if (PropertyUtils.getPropertyValue(ConfigProperties.RECORD_SCREEN).equalsIgnoreCase("yes")) {
+    if (PropertyUtils.getBooleanValue(ConfigProperties.RECORD_SCREEN)) {
       ScreenRecordingUtils.startScreenRecording();
     }
   }
 
   public static void stopRecording(String methodName) {
-    if (PropertyUtils.getPropertyValue(ConfigProperties.RECORD_SCREEN).equalsIgnoreCase("yes")) {
+    if (PropertyUtils.getBooleanValue(ConfigProperties.RECORD_SCREEN)) {
       ScreenRecordingUtils.stopScreenRecording(methodName);
     }
 
   }
+
+  public static void awaitRecordings() {
+    if (PropertyUtils.getBooleanValue(ConfigProperties.RECORD_SCREEN)) {
+      ScreenRecordingUtils.awaitPendingWrites();
+    }
+  }
 }
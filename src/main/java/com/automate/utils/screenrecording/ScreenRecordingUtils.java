@@ -2,6 +2,9 @@ package com.automate.utils.screenrecording;
 
 import com.automate.constants.FrameworkConstants;
 import com.automate.driver.manager.DriverManager;
+import com.automate.driver.manager.ExecutionContext;
+import com.automate.reports.ExtentReportLogger;
+import com.automate.utils.TestUtils;
 import io.appium.java_client.screenrecording.CanRecordScreen;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -10,18 +13,65 @@ import org.apache.commons.codec.binary.Base64;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ScreenRecordingUtils {
 
+  private static final long WRITE_TIMEOUT_MINUTES = 5;
+  private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "screen-recording-writer");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private static final Set<Future<?>> PENDING_WRITES = ConcurrentHashMap.newKeySet();
+
   public static void startScreenRecording() {
     ((CanRecordScreen) DriverManager.getDriver()).startRecordingScreen();
   }
 
+  /**
+   * Stops the recording on the device and decodes and writes the video in the background, so the next test does not wait for
+   * it. The report entry of the video goes to the test that recorded it.
+   */
   public static void stopScreenRecording(String methodName) {
     String recordedVideoFile = ((CanRecordScreen) DriverManager.getDriver()).stopRecordingScreen();
     String pathToWriteVideoFile = FrameworkConstants.getScreenRecordingsPath() + File.separator + methodName + ".mp4";
-    writeToOutputStream(pathToWriteVideoFile, recordedVideoFile);
+    PENDING_WRITES.removeIf(Future::isDone);
+    PENDING_WRITES.add(WRITER.submit(ExecutionContext.wrap(() -> {
+      writeToOutputStream(pathToWriteVideoFile, recordedVideoFile);
+      ExtentReportLogger.logInfo("Screen recording saved to " + pathToWriteVideoFile);
+    })));
+  }
+
+  /**
+   * Waits for the videos still being written. Called at the end of every suite, before the report is flushed; the writer
+   * stays up for the suites that follow in the same JVM.
+   */
+  public static void awaitPendingWrites() {
+    long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(WRITE_TIMEOUT_MINUTES);
+    try {
+      for (Iterator<Future<?>> writes = PENDING_WRITES.iterator(); writes.hasNext(); ) {
+        try {
+          writes.next().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+          TestUtils.log().warn("Unable to save a screen recording", e.getCause());
+        }
+        writes.remove();
+      }
+    } catch (TimeoutException e) {
+      TestUtils.log().warn("Screen recordings still being written after {} minutes", WRITE_TIMEOUT_MINUTES);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
   }
 
   static void writeToOutputStream(String filePathToWrite, String recordedVideoFile) {
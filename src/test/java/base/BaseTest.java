@@ -1,19 +1,23 @@
 package base;
 
+import com.automate.bootstrap.SuiteBootstrap;
+import com.automate.constants.FrameworkConstants;
+import com.automate.driver.device.Device;
+import com.automate.driver.device.DeviceAllocator;
 import com.automate.driver.factory.DriverFactory;
-import com.automate.driver.manager.DeviceManager;
 import com.automate.driver.manager.DriverManager;
-import com.automate.driver.manager.PlatformManager;
-import com.automate.enums.MobilePlatformName;
+import com.automate.driver.manager.ExecutionContext;
+import com.automate.enums.ConfigProperties;
+import com.automate.factories.WaitBudget;
 import com.automate.utils.AppiumServerManager;
+import com.automate.utils.configloader.PropertyUtils;
 import com.automate.utils.screenrecording.ScreenRecordingService;
+import org.testng.ITestContext;
 import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
-import org.testng.annotations.Optional;
-import org.testng.annotations.Parameters;
 
 import java.time.Duration;
 import java.util.Objects;
@@ -25,33 +29,49 @@ public class BaseTest {
 
   @BeforeSuite(alwaysRun = true)
   protected void beforeSuite() {
-    AppiumServerManager.startAppiumServer();
+    SuiteBootstrap.await();
   }
 
-  @Parameters({"platformName", "udid", "deviceName", "systemPort", "chromeDriverPort", "emulator", "wdaLocalPort",
-    "webkitDebugProxyPort"})
+  /**
+   * Reads the device from the parameters of the {@code <test>} (see {@link Device#fromParameters}) or, with
+   * dynamic_device_allocation, leases one.
+   */
   @BeforeMethod
-  protected void setUp(String platformName, String udid, String deviceName, @Optional("androidOnly") String systemPort,
-                       @Optional("androidOnly") String chromeDriverPort, @Optional("androidOnly") String emulator,
-                       @Optional("iOSOnly") String wdaLocalPort, @Optional("iOSOnly") String webkitDebugProxyPort) {
-    PlatformManager.setPlatformName(platformName);
-    DeviceManager.setDeviceName(deviceName);
-    if (Objects.isNull(DriverManager.getDriver())) {
-      DriverFactory.initializeDriver(MobilePlatformName.valueOf(platformName.toUpperCase()), deviceName, udid,
-                                     Integer.parseInt(systemPort), emulator);
-      DriverManager.getDriver().manage().timeouts().implicitlyWait(Duration.ofSeconds(30));
+  protected void setUp(ITestContext context) {
+    Device device = PropertyUtils.getBooleanValue(ConfigProperties.DYNAMIC_DEVICE_ALLOCATION)
+      ? DeviceAllocator.lease()
+      : Device.fromParameters(context.getCurrentXmlTest().getAllParameters());
+    ExecutionContext.set(ExecutionContext.current().toBuilder()
+                           .setPlatformName(device.getPlatformName().name().toLowerCase())
+                           .setDeviceName(device.getDeviceName())
+                           .build());
+    try {
+      if (Objects.isNull(DriverManager.getDriver())) {
+        DriverFactory.initializeDriver(device.getPlatformName(), device.getDeviceName(), device.getUdid(),
+                                       device.getPort(), device.getEmulator());
+        WaitBudget.setImplicitWait(DriverManager.getDriver(), Duration.ofSeconds(FrameworkConstants.IMPLICIT_WAIT));
+      }
+    } catch (RuntimeException e) {
+      DeviceAllocator.release();
+      throw e;
     }
     ScreenRecordingService.startRecording();
   }
 
   @AfterMethod
   protected void tearDown(ITestResult result) {
-    ScreenRecordingService.stopRecording(result.getName());
-    DriverFactory.quitDriver();
+    try {
+      ScreenRecordingService.stopRecording(result.getName());
+      DriverFactory.quitDriver();
+    } finally {
+      DeviceAllocator.release();
+    }
   }
 
   @AfterSuite(alwaysRun = true)
   protected void afterSuite() {
+    DriverFactory.quitAllDrivers();
+    ScreenRecordingService.awaitRecordings();
     AppiumServerManager.stopAppiumServer();
   }
 }
@@ -0,0 +1,137 @@
+package base;
+
+import org.testng.Assert;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Runs a test class in a JVM of its own on a copy of the test resources, for framework tests that need other
+ * config.properties values than the project: the framework reads its configuration from user.dir once per JVM.
+ */
+public final class ForkedSuite {
+
+  private static final String RESOURCES = "src/test/resources";
+  private static final long RUN_TIMEOUT_MINUTES = 5;
+
+  private final Path project;
+
+  private ForkedSuite(Path project) {
+    this.project = project;
+  }
+
+  /**
+   * @param properties config.properties entries to override
+   */
+  public static ForkedSuite create(Map<String, String> properties) throws IOException {
+    Path project = Files.createTempDirectory("forked-suite");
+    Path source = Paths.get(System.getProperty("user.dir"), RESOURCES);
+    Path resources = project.resolve(RESOURCES);
+    try (Stream<Path> files = Files.walk(source)) {
+      for (Path file : (Iterable<Path>) files::iterator) {
+        Path target = resources.resolve(source.relativize(file).toString());
+        if (Files.isDirectory(file)) {
+          Files.createDirectories(target);
+        } else {
+          Files.copy(file, target);
+        }
+      }
+    }
+    StringBuilder overrides = new StringBuilder(System.lineSeparator());
+    properties.forEach((key, value) -> overrides.append(key).append('=').append(value).append(System.lineSeparator()));
+    Files.write(resources.resolve("config/config.properties"), overrides.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+    return new ForkedSuite(project);
+  }
+
+  /**
+   * Writes a file relative to the test resources of the copy, e.g. config/devices.json.
+   */
+  public void writeResource(String path, String content) throws IOException {
+    Files.write(project.resolve(RESOURCES).resolve(path), content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Runs the class as the only class of a single {@code <test>} named Test and fails when the run left no results.
+   *
+   * @param listeners class names of the suite listeners
+   * @return the parsed testng-results.xml
+   */
+  public Document run(Class<?> testClass, String... listeners) throws IOException, InterruptedException {
+    StringBuilder suite = new StringBuilder("<!DOCTYPE suite SYSTEM \"https://testng.org/testng-1.0.dtd\">\n")
+      .append("<suite name=\"").append(testClass.getSimpleName()).append("\">\n    <listeners>\n");
+    for (String listener : listeners) {
+      suite.append("        <listener class-name=\"").append(listener).append("\"/>\n");
+    }
+    suite.append("    </listeners>\n    <test name=\"Test\">\n        <classes>\n")
+      .append("            <class name=\"").append(testClass.getName()).append("\"/>\n")
+      .append("        </classes>\n    </test>\n</suite>\n");
+    Files.write(project.resolve("testng.xml"), suite.toString().getBytes(StandardCharsets.UTF_8));
+
+    // surefire runs in the maven JVM (forkCount 0) and puts the test class path in its own property
+    String classPath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+    Process process = new ProcessBuilder(getJavaExecutable(), "-Duser.dir=" + project, "-cp", classPath,
+                                         "org.testng.TestNG", "-d", "test-output", "testng.xml")
+      .directory(project.toFile())
+      .redirectErrorStream(true)
+      .redirectOutput(project.resolve("run.log").toFile())
+      .start();
+    if (!process.waitFor(RUN_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+      process.descendants().forEach(ProcessHandle::destroyForcibly);
+      process.destroyForcibly();
+      Assert.fail(testClass.getSimpleName() + " did not finish within " + RUN_TIMEOUT_MINUTES + " minutes");
+    }
+    File results = project.resolve("test-output/testng-results.xml").toFile();
+    Assert.assertTrue(results.isFile(), "No results, see the output: " + Files.readString(project.resolve("run.log")));
+    try {
+      return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(results);
+    } catch (Exception e) {
+      throw new IOException("Unable to parse " + results, e);
+    }
+  }
+
+  /**
+   * @return name and output of every test method of the results that did not pass
+   */
+  public static List<String> getFailures(Document results) {
+    List<String> failures = new ArrayList<>();
+    NodeList methods = results.getElementsByTagName("test-method");
+    for (int i = 0; i < methods.getLength(); i++) {
+      Element method = (Element) methods.item(i);
+      if (!"PASS".equals(method.getAttribute("status"))) {
+        failures.add(method.getAttribute("name") + ": " + method.getTextContent().trim());
+      }
+    }
+    return failures;
+  }
+
+  /**
+   * @return the java executable of the running JVM
+   */
+  public static String getJavaExecutable() {
+    return Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+  }
+
+  public void delete() throws IOException {
+    try (Stream<Path> files = Files.walk(project)) {
+      for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(file);
+      }
+    }
+  }
+}
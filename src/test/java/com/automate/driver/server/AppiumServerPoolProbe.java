@@ -0,0 +1,150 @@
+package com.automate.driver.server;
+
+import com.automate.constants.FrameworkConstants;
+import com.automate.driver.device.Device;
+import com.automate.enums.ConfigProperties;
+import com.automate.enums.MobilePlatformName;
+import com.automate.utils.configloader.PropertyUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Drives an {@link AppiumServerPool} of {@link StubAppiumServer} processes, set as appium_node_executable and appium_main_js
+ * by {@link AppiumServerPoolTest}, which runs it in a JVM of its own. Not part of the unit suite.
+ */
+public class AppiumServerPoolProbe {
+
+  private static final Device DEVICE = Device.builder()
+    .setPlatformName(MobilePlatformName.ANDROID)
+    .setUdid("stub")
+    .setDeviceName("stub")
+    .setEmulator("no")
+    .build();
+  private static final int SESSIONS = 4;
+  private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+  private URL url;
+  private File log;
+
+  @BeforeClass
+  public void startPool() {
+    AppiumServerPool.start(List.of(DEVICE));
+    url = AppiumServerPool.getServerUrl(DEVICE.getId());
+    log = new File(new File(FrameworkConstants.getAppiumServerLogsPath()).getParentFile(), "server-" + url.getPort() + ".log");
+  }
+
+  @AfterClass(alwaysRun = true)
+  public void shutdownPool() {
+    AppiumServerPool.shutdown();
+  }
+
+  @Test
+  public void startsTheConfiguredExecutableUntilStatusAnswers() throws IOException {
+    Assert.assertTrue(ServerStatus.isReady(url), "Ready");
+    Assert.assertEquals(getStarts(), 1, "Starts");
+  }
+
+  @Test(dependsOnMethods = "startsTheConfiguredExecutableUntilStatusAnswers")
+  public void restartsADeadServerOnceForConcurrentSessionsAndTheMonitor() throws Exception {
+    long pid = getPid();
+    kill(pid);
+    ExecutorService sessions = Executors.newFixedThreadPool(SESSIONS);
+    try {
+      CyclicBarrier barrier = new CyclicBarrier(SESSIONS);
+      List<Future<URL>> urls = new ArrayList<>();
+      for (int i = 0; i < SESSIONS; i++) {
+        urls.add(sessions.submit(() -> {
+          barrier.await();
+          return AppiumServerPool.getServerUrl(DEVICE.getId());
+        }));
+      }
+      for (Future<URL> sessionUrl : urls) {
+        Assert.assertEquals(sessionUrl.get(TIMEOUT.getSeconds(), TimeUnit.SECONDS), url, "Pinned url");
+      }
+    } finally {
+      sessions.shutdownNow();
+    }
+    long restarted = getPid();
+    Assert.assertNotEquals(restarted, pid, "Pid after the restart");
+    // a few health checks of the monitor, which must leave the healthy server alone
+    Thread.sleep(TimeUnit.SECONDS.toMillis(
+      3L * PropertyUtils.getIntValue(ConfigProperties.APPIUM_SERVER_HEALTH_CHECK_INTERVAL)));
+    Assert.assertEquals(getPid(), restarted, "Pid after the health checks");
+    Assert.assertEquals(getStarts(), 2, "Starts");
+  }
+
+  @Test(dependsOnMethods = "restartsADeadServerOnceForConcurrentSessionsAndTheMonitor")
+  public void monitorRestartsADeadServer() throws Exception {
+    long pid = getPid();
+    kill(pid);
+    long deadline = System.nanoTime() + TIMEOUT.toNanos();
+    while (getStarts() < 3 || !ServerStatus.isReady(url)) {
+      Assert.assertTrue(System.nanoTime() < deadline, "Restarted by the monitor within " + TIMEOUT);
+      Thread.sleep(100);
+    }
+    Assert.assertNotEquals(getPid(), pid, "Pid after the restart");
+  }
+
+  @Test(dependsOnMethods = "monitorRestartsADeadServer")
+  public void shutdownStopsOnlyTheServersOfThePool() throws Exception {
+    long pid = getPid();
+    int port;
+    try (ServerSocket socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+    URL foreignUrl = new URL("http", FrameworkConstants.APPIUM_SERVER_HOST, port, "/");
+    Process foreign = new ProcessBuilder(PropertyUtils.getPropertyValue(ConfigProperties.APPIUM_NODE_EXECUTABLE),
+                                        PropertyUtils.getPropertyValue(ConfigProperties.APPIUM_MAIN_JS),
+                                        "--address", FrameworkConstants.APPIUM_SERVER_HOST, "--port", String.valueOf(port))
+      .redirectErrorStream(true)
+      .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+      .start();
+    try {
+      Assert.assertTrue(ServerStatus.awaitReady(foreignUrl, TIMEOUT, foreign::isAlive), "Foreign server ready");
+      AppiumServerPool.shutdown();
+      Assert.assertFalse(ProcessHandle.of(pid).map(ProcessHandle::isAlive).orElse(false), "Pooled server alive");
+      Assert.assertFalse(ServerStatus.isReady(url), "Pooled server ready");
+      Assert.assertTrue(foreign.isAlive(), "Foreign server alive");
+      Assert.assertTrue(ServerStatus.isReady(foreignUrl), "Foreign server ready after the shutdown");
+    } finally {
+      foreign.destroyForcibly();
+    }
+  }
+
+  private long getPid() throws IOException {
+    return new ObjectMapper().readTree(new URL(url, "status")).at("/value/pid").asLong();
+  }
+
+  private static void kill(long pid) throws Exception {
+    ProcessHandle process = ProcessHandle.of(pid).orElseThrow(() -> new AssertionError("No process " + pid));
+    process.destroyForcibly();
+    process.onExit().get(TIMEOUT.getSeconds(), TimeUnit.SECONDS);
+  }
+
+  /**
+   * @return the number of times a stub started listening, from the server log the pool appends to
+   */
+  private long getStarts() throws IOException {
+    try (Stream<String> lines = Files.lines(log.toPath())) {
+      return lines.filter(line -> line.contains("listening on")).count();
+    }
+  }
+}
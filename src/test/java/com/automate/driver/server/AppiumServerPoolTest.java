@@ -0,0 +1,48 @@
+package com.automate.driver.server;
+
+import base.ForkedSuite;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs {@link AppiumServerPoolProbe} with the pool enabled and {@link StubAppiumServer} as node and appium: readiness through
+ * /status, restarts by sessions and by the health monitor, and a shutdown that stops the pooled server only.
+ */
+public final class AppiumServerPoolTest {
+
+  private static final String STUB_SOURCE = "src/test/java/com/automate/driver/server/StubAppiumServer.java";
+
+  private ForkedSuite suite;
+
+  @BeforeClass
+  public void createSuite() throws IOException {
+    Map<String, String> properties = new LinkedHashMap<>();
+    properties.put("appium_server_pool", "yes");
+    // forward slashes, as a backslash escapes in config.properties
+    properties.put("appium_node_executable", ForkedSuite.getJavaExecutable().replace('\\', '/'));
+    properties.put("appium_main_js", Paths.get(System.getProperty("user.dir"), STUB_SOURCE).toString().replace('\\', '/'));
+    properties.put("appium_server_health_check_interval", "1");
+    suite = ForkedSuite.create(properties);
+  }
+
+  @AfterClass(alwaysRun = true)
+  public void deleteSuite() throws IOException {
+    suite.delete();
+  }
+
+  @Test
+  public void managesTheStubServers() throws Exception {
+    Document results = suite.run(AppiumServerPoolProbe.class);
+    Assert.assertEquals(ForkedSuite.getFailures(results), List.of(), "Failed methods");
+    Assert.assertEquals(results.getDocumentElement().getAttribute("passed"), "4", "Passed methods");
+  }
+}
@@ -0,0 +1,39 @@
+package com.automate.driver.server;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Stands in for node and appium in {@link AppiumServerPoolTest}: launched as {@code java StubAppiumServer.java} (source file
+ * mode, so it needs nothing but the JDK) through appium_node_executable and appium_main_js, it answers /status on the
+ * --address and --port of the appium arguments with its pid until it is stopped.
+ */
+public final class StubAppiumServer {
+
+  private StubAppiumServer() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    List<String> arguments = Arrays.asList(args);
+    String address = arguments.get(arguments.indexOf("--address") + 1);
+    int port = Integer.parseInt(arguments.get(arguments.indexOf("--port") + 1));
+    long pid = ProcessHandle.current().pid();
+    byte[] status = ("{\"value\": {\"ready\": true, \"pid\": " + pid + "}}").getBytes(StandardCharsets.UTF_8);
+    HttpServer server = HttpServer.create(new InetSocketAddress(address, port), 0);
+    server.createContext("/status", exchange -> {
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, status.length);
+      try (OutputStream body = exchange.getResponseBody()) {
+        body.write(status);
+      }
+    });
+    server.start();
+    System.out.println("Stub appium server " + pid + " listening on " + address + ":" + port);
+  }
+}
@@ -0,0 +1,119 @@
+package com.automate.driver.snapshot;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks that {@link LocalXPath} selects the same elements, in the same order, as the JDK XPath engine on the page source of
+ * the fake appium server, and that expressions outside the subset are not compiled. Runs without devices, see
+ * testng_unit.xml.
+ */
+public final class LocalXPathTest {
+
+  private static final String PAGE_SOURCE = "src/test/resources/config/fake-page-source.xml";
+
+  private UiTree tree;
+  private Document document;
+  private final Map<Node, Integer> nodeIndexes = new IdentityHashMap<>();
+
+  @BeforeClass
+  public void parsePageSource() throws Exception {
+    String pageSource = Files.readString(Paths.get(PAGE_SOURCE));
+    tree = PageSnapshot.parse(pageSource).getTree();
+    document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+      .parse(new ByteArrayInputStream(pageSource.getBytes(StandardCharsets.UTF_8)));
+    indexElements(document.getDocumentElement());
+    Assert.assertEquals(nodeIndexes.size() + 1, tree.size(), "Elements of the tree");
+  }
+
+  @DataProvider
+  public static Object[][] supportedExpressions() {
+    return new Object[][] {
+      {"//android.view.ViewGroup[@content-desc='test-Error message']/android.widget.TextView"},
+      {"//android.view.ViewGroup[@content-desc=\"test-Cart drop zone\"]/android.view.ViewGroup/android.widget.TextView"},
+      {"//*"},
+      {"/hierarchy/*"},
+      {"/hierarchy/android.widget.FrameLayout/android.view.ViewGroup[1]/*[3]"},
+      {"//android.view.ViewGroup//android.widget.TextView"},
+      {"//nothing"},
+      // descendant steps with positions, which count per parent
+      {"//*[2]"},
+      {"//*[10]"},
+      {"//android.widget.EditText[2]"},
+      {"//*[@content-desc='test-Login']//*[@text][2]"},
+      {"//*[contains(@content-desc, 'test-')][1]"},
+      {"//android.view.ViewGroup[@content-desc][2]/*"},
+      // != is false for elements without the attribute
+      {"//*[@password!='true']"},
+      {"//*[@password!='false']"},
+      {"//*[@text!='']"},
+      {"//*[@content-desc]"},
+      // and binds tighter than or
+      {"//*[@text='LOGIN' or @enabled='true' and @password='true']"},
+      {"//*[@enabled='true' and @password='true' or @text='LOGIN']"},
+      {"//*[(@text='LOGIN' or @enabled='true') and @password='true']"},
+      {"//*[starts-with(@text, 'Pass') or @content-desc='test-LOGIN']"},
+    };
+  }
+
+  @Test(dataProvider = "supportedExpressions")
+  public void selectsTheSameElementsAsTheJdkEngine(String xpath) throws Exception {
+    NodeList expectedNodes = (NodeList) XPathFactory.newInstance().newXPath().evaluate(xpath, document, XPathConstants.NODESET);
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < expectedNodes.getLength(); i++) {
+      expected.add(nodeIndexes.get(expectedNodes.item(i)));
+    }
+    List<Integer> actual = new ArrayList<>();
+    LocalXPath.compile(xpath).orElseThrow(() -> new AssertionError("Not compiled: " + xpath))
+      .evaluate(tree).stream().forEach(actual::add);
+    Assert.assertEquals(actual, expected, xpath);
+  }
+
+  @DataProvider
+  public static Object[][] unsupportedExpressions() {
+    return new Object[][] {
+      {"//*[text()='LOGIN']"},
+      {"(//android.widget.TextView)[1]"},
+      {"//android.widget.TextView | //android.widget.EditText"},
+      {"//android.widget.EditText/following-sibling::android.view.ViewGroup"},
+      {"//android.widget.TextView[last()]"},
+      {"//android.widget.TextView[position()=1]"},
+      {"//android.widget.TextView/.."},
+      {"//android.widget.TextView/."},
+      {"//*[@text='LOGIN'"},
+      {"android.widget.TextView"},
+    };
+  }
+
+  @Test(dataProvider = "unsupportedExpressions")
+  public void leavesUnsupportedExpressionsToTheServer(String xpath) {
+    Assert.assertTrue(LocalXPath.compile(xpath).isEmpty(), xpath);
+    Assert.assertTrue(PageSnapshot.parse("<hierarchy/>").findFirst(xpath).isEmpty(), xpath);
+  }
+
+  private void indexElements(Node node) {
+    if (node.getNodeType() == Node.ELEMENT_NODE) {
+      nodeIndexes.put(node, nodeIndexes.size() + 1);
+      for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+        indexElements(child);
+      }
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.automate.listeners;
+
+import base.BaseTest;
+import com.automate.customannotations.FrameworkAnnotation;
+import com.automate.driver.manager.DriverManager;
+import com.automate.driver.manager.ExecutionContext;
+import com.automate.enums.CategoryType;
+import com.automate.pages.LoginPage;
+import io.appium.java_client.AppiumDriver;
+import org.testng.Assert;
+import org.testng.Reporter;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Keeps its page in a field like LoginTest does and fails when a method finds the page created by another thread or for
+ * another session. Run in a device pool by {@link DeviceSuiteListenerTest}, not by the unit suite.
+ */
+public class DevicePoolProbe extends BaseTest {
+
+  private static final long ACTION_MILLIS = 300;
+
+  private LoginPage loginPage;
+  private Thread pageThread;
+  private AppiumDriver pageDriver;
+
+  @BeforeMethod
+  public void createPage() {
+    loginPage = new LoginPage();
+    pageThread = Thread.currentThread();
+    pageDriver = DriverManager.getDriver();
+  }
+
+  @FrameworkAnnotation(author = "User-1", category = CategoryType.REGRESSION)
+  @Test
+  public void first() throws InterruptedException {
+    assertOwnPage("first");
+  }
+
+  @FrameworkAnnotation(author = "User-1", category = CategoryType.REGRESSION)
+  @Test
+  public void second() throws InterruptedException {
+    assertOwnPage("second");
+  }
+
+  @FrameworkAnnotation(author = "User-1", category = CategoryType.REGRESSION)
+  @Test
+  public void third() throws InterruptedException {
+    assertOwnPage("third");
+  }
+
+  @FrameworkAnnotation(author = "User-1", category = CategoryType.REGRESSION)
+  @Test
+  public void fourth() throws InterruptedException {
+    assertOwnPage("fourth");
+  }
+
+  @FrameworkAnnotation(author = "User-1", category = CategoryType.REGRESSION)
+  @Test
+  public void fifth() throws InterruptedException {
+    assertOwnPage("fifth");
+  }
+
+  @FrameworkAnnotation(author = "User-1", category = CategoryType.REGRESSION)
+  @Test
+  public void sixth() throws InterruptedException {
+    assertOwnPage("sixth");
+  }
+
+  /**
+   * Gives the other threads time to run their before methods, then drives the page.
+   */
+  private void assertOwnPage(String method) throws InterruptedException {
+    Thread.sleep(ACTION_MILLIS);
+    Assert.assertSame(pageThread, Thread.currentThread(), "Thread that created the page");
+    Assert.assertSame(pageDriver, DriverManager.getDriver(), "Session of the page");
+    Assert.assertTrue(loginPage.isLoginPageDisplayed(), "Login page should be displayed");
+    Reporter.log(method + ' ' + ExecutionContext.current().getDeviceName());
+  }
+}
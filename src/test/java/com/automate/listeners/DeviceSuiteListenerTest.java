@@ -0,0 +1,79 @@
+package com.automate.listeners;
+
+import base.ForkedSuite;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Runs {@link DevicePoolProbe} with dynamic_device_allocation on two fake devices against the fake appium server, and checks
+ * that every method ran once, on the page of its own thread, and that both devices were used.
+ */
+public final class DeviceSuiteListenerTest {
+
+  private static final String DEVICES =
+    "[{\"platformName\": \"android\", \"udid\": \"fake-1\", \"deviceName\": \"fake-1\", \"emulator\": \"no\"},"
+      + " {\"platformName\": \"android\", \"udid\": \"fake-2\", \"deviceName\": \"fake-2\", \"emulator\": \"no\"}]";
+
+  private ForkedSuite suite;
+
+  @BeforeClass
+  public void createSuite() throws IOException {
+    Map<String, String> properties = new LinkedHashMap<>();
+    properties.put("fake_appium_server", "yes");
+    properties.put("record_screen", "no");
+    properties.put("reuse_sessions", "no");
+    properties.put("prewarm_sessions", "no");
+    properties.put("dynamic_device_allocation", "yes");
+    properties.put("device_source", "file");
+    properties.put("devices_file", "config/device-pool.json");
+    suite = ForkedSuite.create(properties);
+    suite.writeResource("config/device-pool.json", DEVICES);
+  }
+
+  @AfterClass(alwaysRun = true)
+  public void deleteSuite() throws IOException {
+    suite.delete();
+  }
+
+  @Test
+  public void runsEveryMethodOnceOnThePageOfItsThread() throws Exception {
+    Document results = suite.run(DevicePoolProbe.class, Listeners.class.getName(), DeviceSuiteListener.class.getName());
+
+    Assert.assertEquals(ForkedSuite.getFailures(results), List.of(), "Failed methods");
+    Map<String, String> testOfMethod = new HashMap<>();
+    Set<String> devices = new HashSet<>();
+    NodeList tests = results.getElementsByTagName("test");
+    for (int i = 0; i < tests.getLength(); i++) {
+      Element test = (Element) tests.item(i);
+      NodeList methods = test.getElementsByTagName("test-method");
+      for (int j = 0; j < methods.getLength(); j++) {
+        Element method = (Element) methods.item(j);
+        if (method.hasAttribute("is-config")) {
+          continue;
+        }
+        String name = method.getAttribute("name");
+        Assert.assertNull(testOfMethod.put(name, test.getAttribute("name")), name + " ran more than once");
+        NodeList lines = method.getElementsByTagName("line");
+        for (int k = 0; k < lines.getLength(); k++) {
+          devices.add(lines.item(k).getTextContent().trim().split(" ")[1]);
+        }
+      }
+    }
+    Assert.assertEquals(testOfMethod.size(), 6, "Methods run");
+    Assert.assertEquals(new HashSet<>(testOfMethod.values()), Set.of("Device pool 1", "Device pool 2"), "Device pool tests");
+    Assert.assertEquals(devices, Set.of("fake-1", "fake-2"), "Devices used");
+  }
+}